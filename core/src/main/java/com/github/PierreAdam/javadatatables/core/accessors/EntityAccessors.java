@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.core.accessors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Registry of the column accessors of an entity class.
+ * Each column name is resolved once to a getter bound as a {@link MethodHandle}. Both the accessors and the
+ * absence of accessor are cached, the resolution is shared by every DataTables working on the same entity class.
+ *
+ * @param <E> the Entity type
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public final class EntityAccessors<E> {
+
+    /**
+     * The potential prefixes of the getter in the target classes.
+     */
+    public static final String[] METHOD_PREFIXES = {"get", "is", "has", "can"};
+
+    /**
+     * The registry of accessors, one per entity class.
+     */
+    private static final ClassValue<EntityAccessors<?>> REGISTRY = new ClassValue<EntityAccessors<?>>() {
+        @Override
+        protected EntityAccessors<?> computeValue(final Class<?> type) {
+            return new EntityAccessors<>(type);
+        }
+    };
+
+    /**
+     * The generic type of a getter once adapted by {@link MethodHandle#asType(MethodType)}.
+     */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Marker cached for the columns that can't be resolved on the entity class.
+     */
+    private static final Function<Object, Object> NO_ACCESSOR = entity -> null;
+
+    /**
+     * The Entity class.
+     */
+    private final Class<E> entityClass;
+
+    /**
+     * The resolved accessors, indexed by column name.
+     */
+    private final ConcurrentMap<String, Function<Object, Object>> accessors;
+
+    /**
+     * Instantiates a new Entity accessors.
+     *
+     * @param entityClass the entity class
+     */
+    private EntityAccessors(final Class<E> entityClass) {
+        this.entityClass = entityClass;
+        this.accessors = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the accessors of the given entity class.
+     *
+     * @param <E>         the Entity type
+     * @param entityClass the entity class
+     * @return the entity accessors
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> EntityAccessors<E> of(final Class<E> entityClass) {
+        return (EntityAccessors<E>) EntityAccessors.REGISTRY.get(entityClass);
+    }
+
+    /**
+     * Try to solve a getter for a given column name. The getter is searched with every prefix of
+     * {@link #METHOD_PREFIXES} then with the plain column name.
+     *
+     * @param entityClass the entity class
+     * @param columnName  the column name
+     * @return the method or null
+     */
+    public static Method findGetter(final Class<?> entityClass, final String columnName) {
+        if (columnName == null) {
+            return null;
+        }
+
+        for (final String methodPrefix : EntityAccessors.METHOD_PREFIXES) {
+            try {
+                return entityClass.getMethod(methodPrefix + StringUtils.capitalize(columnName));
+            } catch (final NoSuchMethodException ignore) {
+            }
+        }
+
+        try {
+            return entityClass.getMethod(columnName);
+        } catch (final NoSuchMethodException ignore) {
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the accessor of the given column. The resolution only happens on the first call for a given column.
+     * Exceptions thrown by the getter are rethrown as runtime exceptions.
+     *
+     * @param columnName the column name
+     * @return the accessor or null if the entity doesn't have any getter for the column
+     */
+    @SuppressWarnings("unchecked")
+    public Function<E, Object> accessor(final String columnName) {
+        if (columnName == null) {
+            return null;
+        }
+
+        final Function<Object, Object> accessor = this.accessors.computeIfAbsent(columnName, this::resolve);
+
+        return accessor == EntityAccessors.NO_ACCESSOR ? null : (Function<E, Object>) accessor;
+    }
+
+    /**
+     * Gets the entity class.
+     *
+     * @return the entity class
+     */
+    public Class<E> getEntityClass() {
+        return this.entityClass;
+    }
+
+    /**
+     * Resolve the accessor of a column.
+     *
+     * @param columnName the column name
+     * @return the accessor or {@link #NO_ACCESSOR}
+     */
+    private Function<Object, Object> resolve(final String columnName) {
+        final Method method = EntityAccessors.findGetter(this.entityClass, columnName);
+
+        if (method == null) {
+            return EntityAccessors.NO_ACCESSOR;
+        }
+
+        final MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method).asType(EntityAccessors.GETTER_TYPE);
+        } catch (final IllegalAccessException ignore) {
+            return EntityAccessors.NO_ACCESSOR;
+        }
+
+        return entity -> {
+            try {
+                return handle.invokeExact(entity);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            }
+        };
+    }
+}
@@ -25,36 +25,31 @@
 package com.github.PierreAdam.javadatatables.core.configs;
 
 import com.github.PierreAdam.javadatatables.core.converters.Converter;
+import com.github.PierreAdam.javadatatables.core.converters.ConverterRegistry;
 import com.github.PierreAdam.javadatatables.core.converters.standards.*;
-import lombok.Getter;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
  * JavaDataTablesConfig.
+ * The converters are kept in an immutable {@link ConverterRegistry} replaced on each registration, readers never
+ * lock and never observe a partially updated registry.
  *
  * @author Pierre Adam
  * @since 21.03.29
  */
-@Getter
 public class JavaDataTablesConfig {
 
-    /**
-     * The global instance of PlayDataTablesConfig.
-     */
-    private static JavaDataTablesConfig instance;
-
     /**
      * The Converters.
      */
-    private final Map<Class<?>, Converter<?>> converters;
+    private volatile ConverterRegistry converterRegistry;
 
     /**
      * Instantiates a new PlayDataTablesConfig.
      */
     private JavaDataTablesConfig() {
-        this.converters = new HashMap<>();
+        this.converterRegistry = ConverterRegistry.empty();
     }
 
     /**
@@ -62,24 +57,8 @@ public class JavaDataTablesConfig {
      *
      * @return the instance
      */
-    public static synchronized JavaDataTablesConfig getInstance() {
-        if (JavaDataTablesConfig.instance == null) {
-            JavaDataTablesConfig.instance = new JavaDataTablesConfig();
-            JavaDataTablesConfig.instance
-                    .addConverter(new StringConverter())
-                    .addConverter(new IntegerConverter())
-                    .addConverter(new LongConverter())
-                    .addConverter(new DoubleConverter())
-                    .addConverter(new FloatConverter())
-                    .addConverter(new BooleanConverter())
-                    .addConverter(new BigIntegerConverter())
-                    .addConverter(new BigDecimalConverter())
-                    .addConverter(new EnumConverter())
-                    .addConverter(new UUIDConverter())
-                    .addConverter(new JsonNodeConverter())
-                    .addConverter(new DateTimeConverter());
-        }
-        return JavaDataTablesConfig.instance;
+    public static JavaDataTablesConfig getInstance() {
+        return InstanceHolder.INSTANCE;
     }
 
     /**
@@ -89,8 +68,54 @@ public class JavaDataTablesConfig {
      * @param converter the converter
      * @return the play data tables config
      */
-    public <T> JavaDataTablesConfig addConverter(final Converter<T> converter) {
-        this.converters.put(converter.getBackedType(), converter);
+    public synchronized <T> JavaDataTablesConfig addConverter(final Converter<T> converter) {
+        this.converterRegistry = this.converterRegistry.with(converter);
         return this;
     }
+
+    /**
+     * Gets the current snapshot of the converters.
+     *
+     * @return the converter registry
+     */
+    public ConverterRegistry getConverterRegistry() {
+        return this.converterRegistry;
+    }
+
+    /**
+     * Gets the converters. The map is a read-only view of the current registry: unlike the previous live map, it
+     * throws an {@link UnsupportedOperationException} on modification and doesn't reflect the converters added
+     * afterward.
+     *
+     * @return the unmodifiable map of converters
+     * @deprecated register the converters with {@link #addConverter(Converter)} and read them with
+     * {@link #getConverterRegistry()}
+     */
+    @Deprecated
+    public Map<Class<?>, Converter<?>> getConverters() {
+        return this.converterRegistry.getConverters();
+    }
+
+    /**
+     * Lazily holds the global instance of PlayDataTablesConfig.
+     */
+    private static final class InstanceHolder {
+
+        /**
+         * The global instance of PlayDataTablesConfig.
+         */
+        private static final JavaDataTablesConfig INSTANCE = new JavaDataTablesConfig()
+                .addConverter(new StringConverter())
+                .addConverter(new IntegerConverter())
+                .addConverter(new LongConverter())
+                .addConverter(new DoubleConverter())
+                .addConverter(new FloatConverter())
+                .addConverter(new BooleanConverter())
+                .addConverter(new BigIntegerConverter())
+                .addConverter(new BigDecimalConverter())
+                .addConverter(new EnumConverter())
+                .addConverter(new UUIDConverter())
+                .addConverter(new JsonNodeConverter())
+                .addConverter(new DateTimeConverter());
+    }
 }
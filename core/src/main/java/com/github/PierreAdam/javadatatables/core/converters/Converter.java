@@ -24,8 +24,11 @@
 
 package com.github.PierreAdam.javadatatables.core.converters;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.io.IOException;
+
 /**
  * The converters may extends this class to have a standardized behavior.
  *
@@ -77,4 +80,35 @@ public abstract class Converter<T> {
      * @return the value node
      */
     protected abstract JsonNode internalAsValueNode(final T obj, final Object context);
+
+    /**
+     * Write the value directly to a json generator, without building a value node.
+     *
+     * @param obj       the obj
+     * @param context   the context
+     * @param generator the generator
+     * @throws IOException if the value can't be written
+     */
+    public final void write(final Object obj, final Object context, final JsonGenerator generator) throws IOException {
+        this.internalWrite(this.getBackedType().cast(obj), context, generator);
+    }
+
+    /**
+     * Internal write. By default, the value node is built then written with the codec of the generator, the
+     * converters may override it to write the value directly.
+     *
+     * @param obj       the obj
+     * @param context   the context
+     * @param generator the generator
+     * @throws IOException if the value can't be written
+     */
+    protected void internalWrite(final T obj, final Object context, final JsonGenerator generator) throws IOException {
+        final JsonNode node = this.internalAsValueNode(obj, context);
+
+        if (node == null) {
+            generator.writeNull();
+        } else {
+            generator.writeTree(node);
+        }
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.core.converters;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable snapshot of converters.
+ * Adding a converter creates a new snapshot with an incremented version, the existing snapshots are never modified
+ * and can safely be read from any thread. The most specific converter of each runtime class is memoized.
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public final class ConverterRegistry {
+
+    /**
+     * The empty registry.
+     */
+    private static final ConverterRegistry EMPTY = new ConverterRegistry(0, Collections.emptyMap());
+
+    /**
+     * The version of the snapshot.
+     */
+    private final long version;
+
+    /**
+     * The converters indexed by backed type.
+     */
+    private final Map<Class<?>, Converter<?>> converters;
+
+    /**
+     * The memoized resolutions.
+     */
+    private final ConcurrentMap<Class<?>, Optional<Converter<?>>> resolved;
+
+    /**
+     * Instantiates a new Converter registry.
+     *
+     * @param version    the version
+     * @param converters the converters
+     */
+    private ConverterRegistry(final long version, final Map<Class<?>, Converter<?>> converters) {
+        this.version = version;
+        this.converters = converters;
+        this.resolved = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the empty registry.
+     *
+     * @return the converter registry
+     */
+    public static ConverterRegistry empty() {
+        return ConverterRegistry.EMPTY;
+    }
+
+    /**
+     * Creates a new snapshot containing the given converter in addition to the current ones.
+     * A converter previously registered for the same backed type is replaced.
+     *
+     * @param <T>       the type parameter
+     * @param converter the converter
+     * @return the new converter registry
+     */
+    public <T> ConverterRegistry with(final Converter<T> converter) {
+        final Map<Class<?>, Converter<?>> copy = new LinkedHashMap<>(this.converters);
+
+        copy.put(converter.getBackedType(), converter);
+
+        return new ConverterRegistry(this.version + 1, Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * Gets the version of the snapshot.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Gets the converters indexed by backed type.
+     *
+     * @return the unmodifiable map of converters
+     */
+    public Map<Class<?>, Converter<?>> getConverters() {
+        return this.converters;
+    }
+
+    /**
+     * Resolve the most specific converter for the given type.
+     *
+     * @param type the type
+     * @return the converter or null
+     */
+    public Converter<?> resolve(final Class<?> type) {
+        Optional<Converter<?>> converter = this.resolved.get(type);
+
+        if (converter == null) {
+            converter = this.resolved.computeIfAbsent(type, key -> Optional.ofNullable(this.lookup(key)));
+        }
+
+        return converter.orElse(null);
+    }
+
+    /**
+     * Look for the most specific converter for the given type. If the type is explicitly registered, its
+     * converter is used. Otherwise, the converter whose backed type is the closest super-type is used.
+     *
+     * @param type the type
+     * @return the converter or null
+     */
+    private Converter<?> lookup(final Class<?> type) {
+        final Converter<?> exact = this.converters.get(type);
+
+        if (exact != null) {
+            return exact;
+        }
+
+        Class<?> bestType = null;
+        Converter<?> best = null;
+
+        for (final Map.Entry<Class<?>, Converter<?>> entry : this.converters.entrySet()) {
+            final Class<?> candidate = entry.getKey();
+
+            if (candidate.isAssignableFrom(type) && (bestType == null || bestType.isAssignableFrom(candidate))) {
+                bestType = candidate;
+                best = entry.getValue();
+            }
+        }
+
+        return best;
+    }
+}
@@ -24,10 +24,13 @@
 
 package com.github.PierreAdam.javadatatables.core.converters;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 
+import java.io.IOException;
+
 /**
  * ConverterToString.
  *
@@ -51,6 +54,26 @@ public abstract class ConverterToString<T> extends Converter<T> {
         return (obj == null ? NullNode.getInstance() : TextNode.valueOf(this.convert(obj, context)));
     }
 
+    @Override
+    protected void internalWrite(final T obj, final Object context, final JsonGenerator generator) throws IOException {
+        if (obj == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(this.convert(obj, context));
+        }
+    }
+
+    /**
+     * Convert an object of the backed type to a string.
+     *
+     * @param obj     the object
+     * @param context the context
+     * @return the string
+     */
+    public final String asString(final Object obj, final Object context) {
+        return this.convert(this.getBackedType().cast(obj), context);
+    }
+
     /**
      * Convert the object to a string.
      *
@@ -24,11 +24,13 @@
 
 package com.github.PierreAdam.javadatatables.core.converters.standards;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.BigIntegerNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.github.PierreAdam.javadatatables.core.converters.Converter;
 
+import java.io.IOException;
 import java.math.BigInteger;
 
 /**
@@ -50,4 +52,13 @@ public class BigIntegerConverter extends Converter<BigInteger> {
     protected JsonNode internalAsValueNode(final BigInteger obj, final Object context) {
         return (obj == null ? NullNode.getInstance() : BigIntegerNode.valueOf(obj));
     }
+
+    @Override
+    protected void internalWrite(final BigInteger obj, final Object context, final JsonGenerator generator) throws IOException {
+        if (obj == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(obj);
+        }
+    }
 }
@@ -24,11 +24,14 @@
 
 package com.github.PierreAdam.javadatatables.core.converters.standards;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.github.PierreAdam.javadatatables.core.converters.Converter;
 
+import java.io.IOException;
+
 /**
  * BooleanConverter.
  *
@@ -48,4 +51,13 @@ public class BooleanConverter extends Converter<Boolean> {
     protected JsonNode internalAsValueNode(final Boolean obj, final Object context) {
         return (obj == null ? NullNode.getInstance() : BooleanNode.valueOf(obj));
     }
+
+    @Override
+    protected void internalWrite(final Boolean obj, final Object context, final JsonGenerator generator) throws IOException {
+        if (obj == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(obj);
+        }
+    }
 }
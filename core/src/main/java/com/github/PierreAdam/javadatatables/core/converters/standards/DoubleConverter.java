@@ -24,11 +24,14 @@
 
 package com.github.PierreAdam.javadatatables.core.converters.standards;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.DoubleNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.github.PierreAdam.javadatatables.core.converters.Converter;
 
+import java.io.IOException;
+
 /**
  * DoubleConverter.
  *
@@ -48,4 +51,13 @@ public class DoubleConverter extends Converter<Double> {
     protected JsonNode internalAsValueNode(final Double obj, final Object context) {
         return (obj == null ? NullNode.getInstance() : DoubleNode.valueOf(obj));
     }
+
+    @Override
+    protected void internalWrite(final Double obj, final Object context, final JsonGenerator generator) throws IOException {
+        if (obj == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(obj);
+        }
+    }
 }
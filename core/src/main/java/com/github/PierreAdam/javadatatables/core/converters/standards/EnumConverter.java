@@ -24,12 +24,16 @@
 
 package com.github.PierreAdam.javadatatables.core.converters.standards;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.LongNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.github.PierreAdam.javadatatables.core.converters.Converter;
 
+import java.io.IOException;
+
 /**
  * EnumConverter.
  *
@@ -38,6 +42,16 @@ import com.github.PierreAdam.javadatatables.core.converters.Converter;
  */
 public class EnumConverter extends Converter<Enum> {
 
+    /**
+     * The values of the constants of each enum class, indexed by ordinal.
+     */
+    private static final ClassValue<EnumValues> VALUES = new ClassValue<EnumValues>() {
+        @Override
+        protected EnumValues computeValue(final Class<?> type) {
+            return new EnumValues(type.getEnumConstants());
+        }
+    };
+
     /**
      * Instantiates a new converter.
      */
@@ -51,12 +65,60 @@ public class EnumConverter extends Converter<Enum> {
             return NullNode.getInstance();
         }
 
-        final String tmp = obj.toString();
+        return EnumConverter.VALUES.get(obj.getDeclaringClass()).nodes[obj.ordinal()];
+    }
+
+    @Override
+    protected void internalWrite(final Enum obj, final Object context, final JsonGenerator generator) throws IOException {
+        if (obj == null) {
+            generator.writeNull();
+            return;
+        }
+
+        final EnumValues values = EnumConverter.VALUES.get(obj.getDeclaringClass());
+        final SerializedString text = values.texts[obj.ordinal()];
+
+        if (text == null) {
+            generator.writeNumber(values.nodes[obj.ordinal()].longValue());
+        } else {
+            generator.writeString(text);
+        }
+    }
+
+    /**
+     * The values of the constants of an enum class. The constants whose string is a number are rendered as numbers.
+     */
+    private static final class EnumValues {
+
+        /**
+         * The value nodes, indexed by ordinal.
+         */
+        private final JsonNode[] nodes;
+
+        /**
+         * The serialized strings, indexed by ordinal. Null for the constants rendered as numbers.
+         */
+        private final SerializedString[] texts;
+
+        /**
+         * Instantiates a new Enum values.
+         *
+         * @param constants the constants of the enum class
+         */
+        private EnumValues(final Object[] constants) {
+            this.nodes = new JsonNode[constants.length];
+            this.texts = new SerializedString[constants.length];
+
+            for (int i = 0; i < constants.length; i++) {
+                final String tmp = constants[i].toString();
 
-        try {
-            return LongNode.valueOf(Long.valueOf(tmp));
-        } catch (final NumberFormatException ignore) {
-            return TextNode.valueOf(tmp);
+                try {
+                    this.nodes[i] = LongNode.valueOf(Long.parseLong(tmp));
+                } catch (final NumberFormatException ignore) {
+                    this.nodes[i] = TextNode.valueOf(tmp);
+                    this.texts[i] = new SerializedString(tmp);
+                }
+            }
         }
     }
 }
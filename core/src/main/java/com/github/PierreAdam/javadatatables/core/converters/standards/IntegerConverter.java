@@ -24,11 +24,14 @@
 
 package com.github.PierreAdam.javadatatables.core.converters.standards;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.github.PierreAdam.javadatatables.core.converters.Converter;
 
+import java.io.IOException;
+
 /**
  * IntegerConverter.
  *
@@ -48,4 +51,13 @@ public class IntegerConverter extends Converter<Integer> {
     protected JsonNode internalAsValueNode(final Integer obj, final Object context) {
         return (obj == null ? NullNode.getInstance() : IntNode.valueOf(obj));
     }
+
+    @Override
+    protected void internalWrite(final Integer obj, final Object context, final JsonGenerator generator) throws IOException {
+        if (obj == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(obj);
+        }
+    }
 }
@@ -24,11 +24,14 @@
 
 package com.github.PierreAdam.javadatatables.core.converters.standards;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.LongNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.github.PierreAdam.javadatatables.core.converters.Converter;
 
+import java.io.IOException;
+
 /**
  * LongConverter.
  *
@@ -48,4 +51,13 @@ public class LongConverter extends Converter<Long> {
     protected JsonNode internalAsValueNode(final Long obj, final Object context) {
         return (obj == null ? NullNode.getInstance() : LongNode.valueOf(obj));
     }
+
+    @Override
+    protected void internalWrite(final Long obj, final Object context, final JsonGenerator generator) throws IOException {
+        if (obj == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(obj);
+        }
+    }
 }
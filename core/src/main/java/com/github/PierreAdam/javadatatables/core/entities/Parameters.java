@@ -69,6 +69,12 @@ public class Parameters {
      */
     private Search search;
 
+    /**
+     * The key of the last row of the previous page, as given in the previous answer. If set, the page starts right
+     * after this key instead of skipping the start offset. Only honored by the providers supporting seek pagination.
+     */
+    private List<String> seek;
+
     /**
      * Get the list of columns or an empty list if columns is null.
      *
@@ -106,13 +112,14 @@ public class Parameters {
      * @return the indexed columns
      */
     public Map<Integer, Column> getIndexedColumns() {
-        return new HashMap<Integer, Column>() {{
-            int i = 0;
-            for (final Column column : Parameters.this.getSafeColumns()) {
-                this.put(i, column);
-                i++;
-            }
-        }};
+        final List<Column> safeColumns = this.getSafeColumns();
+        final Map<Integer, Column> indexedColumns = new HashMap<>(safeColumns.size() * 2);
+
+        for (int i = 0; i < safeColumns.size(); i++) {
+            indexedColumns.put(i, safeColumns.get(i));
+        }
+
+        return indexedColumns;
     }
 
     /**
@@ -121,7 +128,6 @@ public class Parameters {
      * @return the ordered columns
      */
     public List<Column> getOrderedColumns() {
-        final TreeMap<Integer, Column> treeMap = new TreeMap<>(this.getIndexedColumns());
-        return new ArrayList<>(treeMap.values());
+        return new ArrayList<>(this.getSafeColumns());
     }
 }
@@ -24,11 +24,15 @@
 
 package com.github.PierreAdam.javadatatables.core.entities.internal;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 /**
  * AjaxResult.
  *
@@ -59,6 +63,18 @@ public class AjaxResult {
      */
     private long recordsFiltered;
 
+    /**
+     * The key of the last row, to be given back to seek the next page.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> seek;
+
+    /**
+     * The dictionaries of a compact answer, by column index.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ObjectNode dictionaries;
+
     /**
      * Instantiates a new Ajax result.
      *
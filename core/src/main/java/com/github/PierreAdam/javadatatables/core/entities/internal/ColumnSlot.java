@@ -0,0 +1,313 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.core.entities.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.PierreAdam.javadatatables.core.converters.Converter;
+import com.github.PierreAdam.javadatatables.core.converters.ConverterToString;
+
+import java.io.IOException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A column of a {@link RenderPlan}.
+ * The display supplier, the accessor and the converter resolution are bound once when the plan is compiled.
+ *
+ * @param <E> the Entity type
+ * @param <C> the Context type
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public final class ColumnSlot<E, C> {
+
+    /**
+     * The name of the column. Null if the column can't be resolved.
+     */
+    private final String name;
+
+    /**
+     * The display supplier of the column, if any.
+     */
+    private final BiFunction<E, C, String> displaySupplier;
+
+    /**
+     * The accessor of the column, if any.
+     */
+    private final Function<E, Object> accessor;
+
+    /**
+     * The converter resolver.
+     */
+    private final Function<Object, Converter<?>> converterResolver;
+
+    /**
+     * The dictionary of the values of the column, if any.
+     */
+    private final ValueDictionary dictionary;
+
+    /**
+     * The converter used for the last type seen on this column.
+     */
+    private volatile ConverterBinding binding;
+
+    /**
+     * Instantiates a new Column slot.
+     *
+     * @param name              the name
+     * @param displaySupplier   the display supplier
+     * @param accessor          the accessor
+     * @param converterResolver the converter resolver
+     */
+    public ColumnSlot(final String name, final BiFunction<E, C, String> displaySupplier, final Function<E, Object> accessor,
+                      final Function<Object, Converter<?>> converterResolver) {
+        this(name, displaySupplier, accessor, converterResolver, null);
+    }
+
+    /**
+     * Instantiates a new Column slot.
+     *
+     * @param name              the name
+     * @param displaySupplier   the display supplier
+     * @param accessor          the accessor
+     * @param converterResolver the converter resolver
+     * @param dictionary        the dictionary of the values of the column
+     */
+    public ColumnSlot(final String name, final BiFunction<E, C, String> displaySupplier, final Function<E, Object> accessor,
+                      final Function<Object, Converter<?>> converterResolver, final ValueDictionary dictionary) {
+        this.name = name;
+        this.displaySupplier = displaySupplier;
+        this.accessor = accessor;
+        this.converterResolver = converterResolver;
+        this.dictionary = dictionary;
+        this.binding = null;
+    }
+
+    /**
+     * Gets the name of the column.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the display supplier.
+     *
+     * @return the display supplier or null
+     */
+    public BiFunction<E, C, String> getDisplaySupplier() {
+        return this.displaySupplier;
+    }
+
+    /**
+     * Gets the accessor.
+     *
+     * @return the accessor or null
+     */
+    public Function<E, Object> getAccessor() {
+        return this.accessor;
+    }
+
+    /**
+     * Gets the dictionary of the values of the column.
+     *
+     * @return the dictionary or null
+     */
+    public ValueDictionary getDictionary() {
+        return this.dictionary;
+    }
+
+    /**
+     * Render the value of the column for the given entity.
+     *
+     * @param entity  the entity
+     * @param context the context
+     * @return the json node
+     */
+    public JsonNode render(final E entity, final C context) {
+        if (this.displaySupplier != null) {
+            final String display = this.displaySupplier.apply(entity, context);
+
+            if (display == null) {
+                return NullNode.getInstance();
+            }
+
+            return this.dictionary == null ? TextNode.valueOf(display) : this.dictionary.node(display);
+        }
+
+        final Object value = this.value(entity);
+        final Converter<?> converter = this.converterFor(value);
+
+        if (converter == null) {
+            return NullNode.getInstance();
+        }
+        if (this.dictionary != null && converter instanceof ConverterToString) {
+            final String text = ((ConverterToString<?>) converter).asString(value, context);
+
+            return text == null ? NullNode.getInstance() : this.dictionary.node(text);
+        }
+
+        return converter.asValueNode(value, context);
+    }
+
+    /**
+     * Write the value of the column for the given entity directly to a json generator.
+     *
+     * @param entity    the entity
+     * @param context   the context
+     * @param generator the generator
+     * @throws IOException if the value can't be written
+     */
+    public void write(final E entity, final C context, final JsonGenerator generator) throws IOException {
+        if (this.displaySupplier != null) {
+            this.writeString(this.displaySupplier.apply(entity, context), generator);
+            return;
+        }
+
+        final Object value = this.value(entity);
+        final Converter<?> converter = this.converterFor(value);
+
+        if (converter == null) {
+            generator.writeNull();
+        } else if (this.dictionary != null && converter instanceof ConverterToString) {
+            this.writeString(((ConverterToString<?>) converter).asString(value, context), generator);
+        } else {
+            converter.write(value, context, generator);
+        }
+    }
+
+    /**
+     * Write the code of the value of the column for the given entity in a compact answer. The value is the shared
+     * node of the dictionary of the column, no row is built to be encoded afterwards.
+     *
+     * @param entity       the entity
+     * @param context      the context
+     * @param dictionaries the dictionaries of the answer
+     * @param column       the index of the column
+     * @param generator    the generator
+     * @throws IOException if the code can't be written
+     */
+    public void write(final E entity, final C context, final ResponseDictionaries dictionaries, final int column,
+                      final JsonGenerator generator) throws IOException {
+        final JsonNode value = this.render(entity, context);
+
+        if (value == null || value.isNull()) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(dictionaries.code(column, value));
+        }
+    }
+
+    /**
+     * Write a string value, through the dictionary if the column has one.
+     *
+     * @param text      the text
+     * @param generator the generator
+     * @throws IOException if the value can't be written
+     */
+    private void writeString(final String text, final JsonGenerator generator) throws IOException {
+        if (text == null) {
+            generator.writeNull();
+        } else if (this.dictionary == null) {
+            generator.writeString(text);
+        } else {
+            this.dictionary.write(text, generator);
+        }
+    }
+
+    /**
+     * Get the raw value of the column for the given entity. The exceptions of the getter are swallowed.
+     *
+     * @param entity the entity
+     * @return the value or null
+     */
+    public Object value(final E entity) {
+        if (this.accessor == null) {
+            return null;
+        }
+
+        try {
+            return this.accessor.apply(entity);
+        } catch (final RuntimeException ignore) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the converter for the given value.
+     *
+     * @param value the value
+     * @return the converter or null
+     */
+    public Converter<?> converterFor(final Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        final Class<?> type = value.getClass();
+        final ConverterBinding current = this.binding;
+
+        if (current != null && current.type == type) {
+            return current.converter;
+        }
+
+        final Converter<?> converter = this.converterResolver.apply(value);
+        this.binding = new ConverterBinding(type, converter);
+
+        return converter;
+    }
+
+    /**
+     * The converter resolved for a given type.
+     */
+    private static final class ConverterBinding {
+
+        /**
+         * The Type.
+         */
+        private final Class<?> type;
+
+        /**
+         * The Converter.
+         */
+        private final Converter<?> converter;
+
+        /**
+         * Instantiates a new Converter binding.
+         *
+         * @param type      the type
+         * @param converter the converter
+         */
+        private ConverterBinding(final Class<?> type, final Converter<?> converter) {
+            this.type = type;
+            this.converter = converter;
+        }
+    }
+}
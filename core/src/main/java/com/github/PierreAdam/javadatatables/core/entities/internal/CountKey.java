@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.core.entities.internal;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The key of a count in a {@link com.github.PierreAdam.javadatatables.core.interfaces.CountCache}.
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class CountKey {
+
+    /**
+     * The identity of the counted source, usually a table.
+     */
+    private final String source;
+
+    /**
+     * The rendered from clause of the counted rows, for example the joins of the source table. Empty if the source
+     * is the from clause itself.
+     */
+    private final String from;
+
+    /**
+     * The context discriminator, for example the tenant. Null if the count doesn't depend on the context.
+     */
+    private final Object discriminator;
+
+    /**
+     * The normalized conditions restricting the counted rows. Empty for the whole source.
+     */
+    private final String conditions;
+
+    /**
+     * Instantiates a new Count key.
+     *
+     * @param source        the source
+     * @param discriminator the discriminator
+     * @param conditions    the normalized conditions
+     */
+    public CountKey(final String source, final Object discriminator, final String conditions) {
+        this(source, null, discriminator, conditions);
+    }
+
+    /**
+     * Instantiates a new Count key.
+     *
+     * @param source        the source
+     * @param from          the rendered from clause
+     * @param discriminator the discriminator
+     * @param conditions    the normalized conditions
+     */
+    public CountKey(final String source, final String from, final Object discriminator, final String conditions) {
+        this.source = source;
+        this.from = from == null ? "" : from;
+        this.discriminator = discriminator;
+        this.conditions = conditions == null ? "" : conditions;
+    }
+}
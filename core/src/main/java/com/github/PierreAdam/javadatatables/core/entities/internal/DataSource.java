@@ -55,6 +55,11 @@ public class DataSource<E> {
      */
     private long recordsFiltered;
 
+    /**
+     * The key of the last entity, used to seek the next page. Null if the provider doesn't support seek pagination.
+     */
+    private List<String> seek;
+
     /**
      * Instantiates a new Data source.
      */
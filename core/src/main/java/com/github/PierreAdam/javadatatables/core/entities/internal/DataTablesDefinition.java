@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.core.entities.internal;
+
+import com.github.PierreAdam.javadatatables.core.converters.ConverterRegistry;
+import com.github.PierreAdam.javadatatables.core.implementations.RowExtraDataImpl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * An immutable snapshot of the configuration of a DataTables.
+ * The requests are processed from a definition only, it can be shared by any number of threads.
+ *
+ * @param <E> the Entity type
+ * @param <S> the Source Provider type
+ * @param <C> the Context type
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public final class DataTablesDefinition<E, S, C> {
+
+    /**
+     * The fields specific behavior.
+     */
+    private final Map<String, FieldBehavior<E, S, C>> fieldsBehavior;
+
+    /**
+     * The instance specific converters.
+     */
+    private final ConverterRegistry converters;
+
+    /**
+     * The Row extra data.
+     */
+    private final RowExtraDataImpl<E> rowExtraData;
+
+    /**
+     * The global search handler.
+     */
+    private final BiConsumer<S, String> globalSearchHandler;
+
+    /**
+     * The provider initialization.
+     */
+    private final Consumer<S> initProviderConsumer;
+
+    /**
+     * The executor rendering the rows of the large pages. Null if the rows are rendered by the request thread.
+     */
+    private final Executor renderingExecutor;
+
+    /**
+     * The number of rows from which the rows are rendered by the rendering executor.
+     */
+    private final int parallelRenderingThreshold;
+
+    /**
+     * Whether the columns having a dictionary are encoded in the array answers.
+     */
+    private final boolean compactAnswer;
+
+    /**
+     * Instantiates a new Data tables definition. The mutable parts of the configuration are copied.
+     *
+     * @param fieldsBehavior             the fields behavior
+     * @param converters                 the converters
+     * @param rowExtraData               the row extra data
+     * @param globalSearchHandler        the global search handler
+     * @param initProviderConsumer       the init provider consumer
+     * @param renderingExecutor          the rendering executor
+     * @param parallelRenderingThreshold the parallel rendering threshold
+     * @param compactAnswer              whether the columns having a dictionary are encoded
+     */
+    public DataTablesDefinition(final Map<String, FieldBehavior<E, S, C>> fieldsBehavior, final ConverterRegistry converters,
+                                final RowExtraDataImpl<E> rowExtraData, final BiConsumer<S, String> globalSearchHandler,
+                                final Consumer<S> initProviderConsumer, final Executor renderingExecutor,
+                                final int parallelRenderingThreshold, final boolean compactAnswer) {
+        final Map<String, FieldBehavior<E, S, C>> copy = new HashMap<>();
+
+        fieldsBehavior.forEach((fieldName, fieldBehavior) -> copy.put(fieldName, new FieldBehavior<>(fieldBehavior)));
+
+        this.fieldsBehavior = Collections.unmodifiableMap(copy);
+        this.converters = converters;
+        this.rowExtraData = new RowExtraDataImpl<>(rowExtraData);
+        this.globalSearchHandler = globalSearchHandler;
+        this.initProviderConsumer = initProviderConsumer;
+        this.renderingExecutor = renderingExecutor;
+        this.parallelRenderingThreshold = parallelRenderingThreshold;
+        this.compactAnswer = compactAnswer;
+    }
+
+    /**
+     * Gets the behavior of a field.
+     *
+     * @param fieldName the field name
+     * @return the field behavior or null if the field doesn't have a specific behavior
+     */
+    public FieldBehavior<E, S, C> getField(final String fieldName) {
+        return this.fieldsBehavior.get(fieldName);
+    }
+
+    /**
+     * Gets the fields behavior.
+     *
+     * @return the unmodifiable fields behavior
+     */
+    public Map<String, FieldBehavior<E, S, C>> getFieldsBehavior() {
+        return this.fieldsBehavior;
+    }
+
+    /**
+     * Gets the converters.
+     *
+     * @return the converters
+     */
+    public ConverterRegistry getConverters() {
+        return this.converters;
+    }
+
+    /**
+     * Gets the row extra data.
+     *
+     * @return the row extra data
+     */
+    public RowExtraDataImpl<E> getRowExtraData() {
+        return this.rowExtraData;
+    }
+
+    /**
+     * Gets the global search handler.
+     *
+     * @return the global search handler or null
+     */
+    public BiConsumer<S, String> getGlobalSearchHandler() {
+        return this.globalSearchHandler;
+    }
+
+    /**
+     * Gets the init provider consumer.
+     *
+     * @return the init provider consumer or null
+     */
+    public Consumer<S> getInitProviderConsumer() {
+        return this.initProviderConsumer;
+    }
+
+    /**
+     * Gets the executor rendering the rows of the large pages.
+     *
+     * @return the rendering executor or null
+     */
+    public Executor getRenderingExecutor() {
+        return this.renderingExecutor;
+    }
+
+    /**
+     * Gets the number of rows from which the rows are rendered by the rendering executor.
+     *
+     * @return the parallel rendering threshold
+     */
+    public int getParallelRenderingThreshold() {
+        return this.parallelRenderingThreshold;
+    }
+
+    /**
+     * Whether the columns having a dictionary are encoded in the array answers.
+     *
+     * @return true if the answers are compact
+     */
+    public boolean isCompactAnswer() {
+        return this.compactAnswer;
+    }
+}
@@ -27,6 +27,9 @@ package com.github.PierreAdam.javadatatables.core.entities.internal;
 import com.github.PierreAdam.javadatatables.core.enumerations.OrderEnum;
 import lombok.Setter;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -60,6 +63,91 @@ public class FieldBehavior<E, S, C> {
      */
     private BiConsumer<S, OrderEnum> orderHandler;
 
+    /**
+     * The columns the display supplier depends on.
+     */
+    private List<String> dependencies;
+
+    /**
+     * The dictionary of the values of the column, if the column has a low cardinality.
+     */
+    private ValueDictionary dictionary;
+
+    /**
+     * Instantiates a new Field behavior.
+     */
+    public FieldBehavior() {
+        this.dependencies = Collections.emptyList();
+    }
+
+    /**
+     * Instantiates a new Field behavior as a copy of another one.
+     *
+     * @param other the field behavior to copy
+     */
+    public FieldBehavior(final FieldBehavior<E, S, C> other) {
+        this.displaySupplier = other.displaySupplier;
+        this.searchHandler = other.searchHandler;
+        this.orderHandler = other.orderHandler;
+        this.dependencies = other.dependencies;
+        this.dictionary = other.dictionary;
+    }
+
+    /**
+     * Sets the columns the display supplier depends on. They are retrieved by the providers selecting only the
+     * requested columns.
+     *
+     * @param dependencies the dependencies
+     * @return the field behavior
+     */
+    public FieldBehavior<E, S, C> setDependencies(final String... dependencies) {
+        this.dependencies = Collections.unmodifiableList(Arrays.asList(dependencies.clone()));
+
+        return this;
+    }
+
+    /**
+     * Gets the columns the display supplier depends on.
+     *
+     * @return the dependencies
+     */
+    public List<String> getDependencies() {
+        return this.dependencies;
+    }
+
+    /**
+     * Enable the dictionary of the values of the column. The repeated values of a low-cardinality column are rendered
+     * from shared nodes and pre-escaped strings. The dictionary turns itself off if the column has more distinct
+     * values than the capacity.
+     *
+     * @param capacity the maximum number of distinct values or 0 to disable the dictionary
+     * @return the field behavior
+     */
+    public FieldBehavior<E, S, C> setDictionary(final int capacity) {
+        this.dictionary = capacity <= 0 ? null : new ValueDictionary(capacity);
+
+        return this;
+    }
+
+    /**
+     * Enable the dictionary of the values of the column with the default capacity.
+     *
+     * @return the field behavior
+     * @see #setDictionary(int)
+     */
+    public FieldBehavior<E, S, C> enableDictionary() {
+        return this.setDictionary(ValueDictionary.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Gets the dictionary of the values of the column.
+     *
+     * @return the dictionary
+     */
+    public Optional<ValueDictionary> getDictionary() {
+        return Optional.ofNullable(this.dictionary);
+    }
+
     /**
      * Gets display supplier.
      *
@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.core.entities.internal;
+
+import com.github.PierreAdam.javadatatables.core.implementations.RowExtraDataImpl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The rendering plan of a request.
+ * It is compiled once from the parameters and holds the ordered columns and the shape of the answer.
+ *
+ * @param <E> the Entity type
+ * @param <C> the Context type
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public final class RenderPlan<E, C> {
+
+    /**
+     * The ordered columns.
+     */
+    private final ColumnSlot<E, C>[] slots;
+
+    /**
+     * The named columns rendered in an object row. A name used by several columns is rendered once, at the position
+     * of its first column with the value of its last column.
+     */
+    private final ColumnSlot<E, C>[] objectSlots;
+
+    /**
+     * Whether the rows are rendered as objects or as arrays.
+     */
+    private final boolean objectAnswer;
+
+    /**
+     * The indexes of the columns encoded with a dictionary in a compact answer.
+     */
+    private final int[] encodedColumns;
+
+    /**
+     * The row extra data.
+     */
+    private final RowExtraDataImpl<E> rowExtraData;
+
+    /**
+     * Instantiates a new Render plan.
+     *
+     * @param slots        the ordered columns
+     * @param objectAnswer whether the rows are rendered as objects
+     * @param rowExtraData the row extra data
+     */
+    public RenderPlan(final List<ColumnSlot<E, C>> slots, final boolean objectAnswer, final RowExtraDataImpl<E> rowExtraData) {
+        this(slots, objectAnswer, false, rowExtraData);
+    }
+
+    /**
+     * Instantiates a new Render plan. In a compact answer, the array rows carry the code of the values of the columns
+     * having a dictionary.
+     *
+     * @param slots         the ordered columns
+     * @param objectAnswer  whether the rows are rendered as objects
+     * @param compactAnswer whether the columns having a dictionary are encoded
+     * @param rowExtraData  the row extra data
+     */
+    @SuppressWarnings("unchecked")
+    public RenderPlan(final List<ColumnSlot<E, C>> slots, final boolean objectAnswer, final boolean compactAnswer,
+                      final RowExtraDataImpl<E> rowExtraData) {
+        final Map<String, ColumnSlot<E, C>> namedSlots = new LinkedHashMap<>();
+        final List<Integer> encodedColumns = new ArrayList<>();
+
+        for (int i = 0; i < slots.size(); i++) {
+            final ColumnSlot<E, C> slot = slots.get(i);
+
+            if (slot.getName() != null) {
+                namedSlots.put(slot.getName(), slot);
+            }
+            // The columns whose dictionary turned itself off aren't worth encoding.
+            if (compactAnswer && !objectAnswer && slot.getDictionary() != null && slot.getDictionary().isEnabled()) {
+                encodedColumns.add(i);
+            }
+        }
+
+        this.slots = slots.toArray(new ColumnSlot[0]);
+        this.objectSlots = new ArrayList<>(namedSlots.values()).toArray(new ColumnSlot[0]);
+        this.objectAnswer = objectAnswer;
+        this.encodedColumns = encodedColumns.stream().mapToInt(Integer::intValue).toArray();
+        this.rowExtraData = rowExtraData;
+    }
+
+    /**
+     * Gets the ordered columns. The returned array must not be modified.
+     *
+     * @return the slots
+     */
+    public ColumnSlot<E, C>[] getSlots() {
+        return this.slots;
+    }
+
+    /**
+     * Gets the named columns rendered in an object row. The returned array must not be modified.
+     *
+     * @return the object slots
+     */
+    public ColumnSlot<E, C>[] getObjectSlots() {
+        return this.objectSlots;
+    }
+
+    /**
+     * Whether the rows are rendered as objects or as arrays.
+     *
+     * @return true if the rows are rendered as objects
+     */
+    public boolean isObjectAnswer() {
+        return this.objectAnswer;
+    }
+
+    /**
+     * Whether the answer is compact, i.e. at least a column is encoded with a dictionary.
+     *
+     * @return true if the answer is compact
+     */
+    public boolean isCompactAnswer() {
+        return this.encodedColumns.length > 0;
+    }
+
+    /**
+     * Gets the indexes of the columns encoded with a dictionary. The returned array must not be modified.
+     *
+     * @return the encoded columns
+     */
+    public int[] getEncodedColumns() {
+        return this.encodedColumns;
+    }
+
+    /**
+     * Gets the row extra data. Only used when the rows are rendered as objects.
+     *
+     * @return the row extra data
+     */
+    public RowExtraDataImpl<E> getRowExtraData() {
+        return this.rowExtraData;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.core.entities.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The dictionaries of a compact answer.
+ * The values of the encoded columns are replaced in the rows by their code, the index of the value in the dictionary of
+ * the column. The dictionaries are sent once, under the "dictionaries" key, by column index. The null values are kept
+ * as is. An instance encodes a single answer, its rows may be encoded concurrently.
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public final class ResponseDictionaries {
+
+    /**
+     * The indexes of the encoded columns.
+     */
+    private final int[] columns;
+
+    /**
+     * The position of each column in the encoded columns, -1 if the column isn't encoded.
+     */
+    private final int[] positions;
+
+    /**
+     * The codes of the values, by encoded column.
+     */
+    private final List<Map<JsonNode, Integer>> codes;
+
+    /**
+     * The values, in the order of their code, by encoded column.
+     */
+    private final List<List<JsonNode>> values;
+
+    /**
+     * Instantiates a new Response dictionaries.
+     *
+     * @param columns the indexes of the encoded columns
+     */
+    public ResponseDictionaries(final int[] columns) {
+        this.columns = columns.clone();
+        this.codes = new ArrayList<>(columns.length);
+        this.values = new ArrayList<>(columns.length);
+        this.positions = new int[Arrays.stream(columns).max().orElse(-1) + 1];
+
+        Arrays.fill(this.positions, -1);
+
+        for (int i = 0; i < columns.length; i++) {
+            this.codes.add(new HashMap<>());
+            this.values.add(new ArrayList<>());
+            this.positions[columns[i]] = i;
+        }
+    }
+
+    /**
+     * Whether the given column is encoded.
+     *
+     * @param column the index of the column
+     * @return true if the values of the column are replaced by their code
+     */
+    public boolean encodes(final int column) {
+        return column >= 0 && column < this.positions.length && this.positions[column] >= 0;
+    }
+
+    /**
+     * Get the code of a value of an encoded column. The value is added to the dictionary of the column if needed.
+     *
+     * @param column the index of the column
+     * @param value  the value, not null
+     * @return the code
+     */
+    public int code(final int column, final JsonNode value) {
+        return this.codeAt(this.positions[column], value);
+    }
+
+    /**
+     * Replace the values of the encoded columns of a row by their code.
+     *
+     * @param row the row, rendered as an array
+     */
+    public void encode(final ArrayNode row) {
+        for (int i = 0; i < this.columns.length; i++) {
+            final JsonNode value = row.get(this.columns[i]);
+
+            if (value == null || value.isNull()) {
+                continue;
+            }
+
+            row.set(this.columns[i], IntNode.valueOf(this.codeAt(i, value)));
+        }
+    }
+
+    /**
+     * Get the code of a value in the dictionary at the given position.
+     *
+     * @param position the position of the column in the encoded columns
+     * @param value    the value
+     * @return the code
+     */
+    private synchronized int codeAt(final int position, final JsonNode value) {
+        final Map<JsonNode, Integer> columnCodes = this.codes.get(position);
+        Integer code = columnCodes.get(value);
+
+        if (code == null) {
+            code = columnCodes.size();
+            columnCodes.put(value, code);
+            this.values.get(position).add(value);
+        }
+
+        return code;
+    }
+
+    /**
+     * Get the dictionaries as a json node.
+     *
+     * @param objectMapper the object mapper
+     * @return the object node
+     */
+    public ObjectNode asNode(final ObjectMapper objectMapper) {
+        final ObjectNode dictionaries = objectMapper.createObjectNode();
+
+        for (int i = 0; i < this.columns.length; i++) {
+            dictionaries.putArray(String.valueOf(this.columns[i])).addAll(this.values.get(i));
+        }
+
+        return dictionaries;
+    }
+
+    /**
+     * Write the dictionaries to a json generator.
+     *
+     * @param generator   the generator
+     * @param valueWriter the writer of the values
+     * @throws IOException if the dictionaries can't be written
+     */
+    public void write(final JsonGenerator generator, final ObjectWriter valueWriter) throws IOException {
+        generator.writeObjectFieldStart("dictionaries");
+        for (int i = 0; i < this.columns.length; i++) {
+            generator.writeArrayFieldStart(String.valueOf(this.columns[i]));
+            for (final JsonNode value : this.values.get(i)) {
+                valueWriter.writeValue(generator, value);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.core.entities.internal;
+
+import lombok.Getter;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A data source whose entities are consumed one by one, as they are retrieved.
+ * It must be closed once consumed to release the underlying resources.
+ *
+ * @param <E> the Entity type
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public class StreamingDataSource<E> implements AutoCloseable {
+
+    /**
+     * The Records total.
+     */
+    @Getter
+    private final long recordsTotal;
+
+    /**
+     * The Records filtered.
+     */
+    @Getter
+    private final long recordsFiltered;
+
+    /**
+     * The Entities.
+     */
+    @Getter
+    private final Iterator<E> entities;
+
+    /**
+     * The supplier of the key of the last entity.
+     */
+    private final Supplier<List<String>> seekSupplier;
+
+    /**
+     * The handler releasing the underlying resources. Null if there is nothing to release.
+     */
+    private final Runnable closeHandler;
+
+    /**
+     * Instantiates a new Streaming data source.
+     *
+     * @param recordsTotal    the records total
+     * @param recordsFiltered the records filtered
+     * @param entities        the entities
+     * @param seekSupplier    the supplier of the key of the last entity
+     * @param closeHandler    the close handler or null
+     */
+    public StreamingDataSource(final long recordsTotal, final long recordsFiltered, final Iterator<E> entities,
+                               final Supplier<List<String>> seekSupplier, final Runnable closeHandler) {
+        this.recordsTotal = recordsTotal;
+        this.recordsFiltered = recordsFiltered;
+        this.entities = entities;
+        this.seekSupplier = seekSupplier;
+        this.closeHandler = closeHandler;
+    }
+
+    /**
+     * Instantiates a new Streaming data source over an already retrieved data source.
+     *
+     * @param dataSource the data source
+     */
+    public StreamingDataSource(final DataSource<E> dataSource) {
+        this(dataSource.getRecordsTotal(), dataSource.getRecordsFiltered(), dataSource.getEntities().iterator(), dataSource::getSeek, null);
+    }
+
+    /**
+     * Gets the key of the last entity, used to seek the next page. It is only known once all the entities have been
+     * consumed.
+     *
+     * @return the seek key or null if the provider doesn't support seek pagination
+     */
+    public List<String> getSeek() {
+        return this.seekSupplier.get();
+    }
+
+    @Override
+    public void close() {
+        if (this.closeHandler != null) {
+            this.closeHandler.run();
+        }
+    }
+}
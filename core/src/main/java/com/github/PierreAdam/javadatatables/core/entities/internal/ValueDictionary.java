@@ -0,0 +1,186 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.core.entities.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A bounded dictionary of the values of a low-cardinality column.
+ * The repeated values are rendered with a shared node or written from their pre-escaped form. Once more distinct values
+ * than its capacity are seen, the dictionary turns itself off and the values are rendered as usual.
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public final class ValueDictionary {
+
+    /**
+     * The default capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The maximum number of distinct values.
+     */
+    private final int capacity;
+
+    /**
+     * The entries by value.
+     */
+    private final ConcurrentMap<String, Entry> entries;
+
+    /**
+     * Whether the dictionary turned itself off.
+     */
+    private volatile boolean disabled;
+
+    /**
+     * Instantiates a new Value dictionary.
+     *
+     * @param capacity the maximum number of distinct values
+     */
+    public ValueDictionary(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of a dictionary must be positive.");
+        }
+
+        this.capacity = capacity;
+        this.entries = new ConcurrentHashMap<>();
+        this.disabled = false;
+    }
+
+    /**
+     * Gets the maximum number of distinct values.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Checks if the dictionary is still in use.
+     *
+     * @return false if the column turned out to have too many distinct values
+     */
+    public boolean isEnabled() {
+        return !this.disabled;
+    }
+
+    /**
+     * Gets the number of values in the dictionary.
+     *
+     * @return the size
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Gets the node of a value.
+     *
+     * @param value the value
+     * @return the shared node of the value or a new one if the dictionary is off
+     */
+    public TextNode node(final String value) {
+        final Entry entry = this.lookup(value);
+
+        return entry == null ? TextNode.valueOf(value) : entry.node;
+    }
+
+    /**
+     * Write a value to a json generator.
+     *
+     * @param value     the value
+     * @param generator the generator
+     * @throws IOException if the value can't be written
+     */
+    public void write(final String value, final JsonGenerator generator) throws IOException {
+        final Entry entry = this.lookup(value);
+
+        if (entry == null) {
+            generator.writeString(value);
+        } else {
+            generator.writeString(entry.serialized);
+        }
+    }
+
+    /**
+     * Lookup the entry of a value, adding it if the capacity allows it.
+     *
+     * @param value the value
+     * @return the entry or null if the dictionary is off
+     */
+    private Entry lookup(final String value) {
+        if (value == null || this.disabled) {
+            return null;
+        }
+
+        final Entry entry = this.entries.get(value);
+
+        if (entry != null) {
+            return entry;
+        }
+        if (this.entries.size() >= this.capacity) {
+            this.disabled = true;
+            this.entries.clear();
+            return null;
+        }
+
+        return this.entries.computeIfAbsent(value, Entry::new);
+    }
+
+    /**
+     * A value of the dictionary.
+     */
+    private static final class Entry {
+
+        /**
+         * The Node.
+         */
+        private final TextNode node;
+
+        /**
+         * The pre-escaped value.
+         */
+        private final SerializedString serialized;
+
+        /**
+         * Instantiates a new Entry.
+         *
+         * @param value the value
+         */
+        private Entry(final String value) {
+            this.node = TextNode.valueOf(value);
+            this.serialized = new SerializedString(value);
+        }
+    }
+}
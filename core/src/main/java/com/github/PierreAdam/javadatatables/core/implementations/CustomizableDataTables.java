@@ -26,8 +26,11 @@ package com.github.PierreAdam.javadatatables.core.implementations;
 
 import com.github.PierreAdam.javadatatables.core.entities.Parameters;
 import com.github.PierreAdam.javadatatables.core.entities.internal.DataSource;
+import com.github.PierreAdam.javadatatables.core.entities.internal.StreamingDataSource;
 import com.github.PierreAdam.javadatatables.core.enumerations.OrderEnum;
 
+import java.util.List;
+
 /**
  * DataTablesHooks.
  *
@@ -50,6 +53,19 @@ public abstract class CustomizableDataTables<E, S, C, U extends CustomizableData
      */
     protected abstract U setPagination(final S provider, int startElement, int numberOfElement);
 
+    /**
+     * Sets the key of the last row of the previous page. Only called if the parameters hold a seek key.
+     *
+     * @param provider the provider
+     * @param seek     the seek key
+     * @return the u
+     */
+    protected U setSeek(final S provider, final List<String> seek) {
+        // Default behavior does nothing, the pagination relies on the start offset
+
+        return this.asSelf();
+    }
+
     /**
      * Data source from provider data source.
      *
@@ -59,6 +75,20 @@ public abstract class CustomizableDataTables<E, S, C, U extends CustomizableData
      */
     protected abstract DataSource<E> dataSourceFromProvider(final S provider, final C context);
 
+    /**
+     * Streaming data source from provider. Used when the answer is written directly to an output, the entities
+     * are rendered as they are consumed.
+     *
+     * @param provider the provider
+     * @param context  the context
+     * @return the streaming data source
+     */
+    protected StreamingDataSource<E> streamingDataSourceFromProvider(final S provider, final C context) {
+        // Default behavior retrieves all the entities at once
+
+        return new StreamingDataSource<>(this.dataSourceFromProvider(provider, context));
+    }
+
     /**
      * Fallback order handler.
      *
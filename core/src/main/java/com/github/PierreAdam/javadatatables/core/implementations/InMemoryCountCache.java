@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.core.implementations;
+
+import com.github.PierreAdam.javadatatables.core.entities.internal.CountKey;
+import com.github.PierreAdam.javadatatables.core.interfaces.CountCache;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-process count cache. The counts expire after a time to live and the oldest ones are evicted once the cache
+ * holds more than its maximum size.
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public class InMemoryCountCache implements CountCache {
+
+    /**
+     * The time to live of the counts, in milliseconds.
+     */
+    private final long timeToLive;
+
+    /**
+     * The maximum number of counts kept in the cache.
+     */
+    private final int maximumSize;
+
+    /**
+     * The counts.
+     */
+    private final ConcurrentMap<CountKey, Entry> counts;
+
+    /**
+     * Instantiates a new In memory count cache.
+     *
+     * @param timeToLive  the time to live of the counts
+     * @param maximumSize the maximum number of counts kept in the cache
+     */
+    public InMemoryCountCache(final Duration timeToLive, final int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive.");
+        }
+
+        this.timeToLive = timeToLive.toMillis();
+        this.maximumSize = maximumSize;
+        this.counts = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Long get(final CountKey key) {
+        final Entry entry = this.counts.get(key);
+
+        return entry != null && entry.expiresAt > System.currentTimeMillis() ? entry.count : null;
+    }
+
+    @Override
+    public void put(final CountKey key, final long count) {
+        final long now = System.currentTimeMillis();
+
+        this.counts.put(key, new Entry(count, now + this.timeToLive));
+        if (this.counts.size() > this.maximumSize) {
+            this.counts.values().removeIf(entry -> entry.expiresAt <= now);
+            while (this.counts.size() > this.maximumSize) {
+                this.counts.entrySet()
+                        .stream()
+                        .min(Comparator.comparingLong(e -> e.getValue().expiresAt))
+                        .map(Map.Entry::getKey)
+                        .ifPresent(this.counts::remove);
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(final String source) {
+        this.counts.keySet().removeIf(key -> Objects.equals(key.getSource(), source));
+    }
+
+    @Override
+    public void invalidate(final String source, final Object discriminator) {
+        this.counts.keySet().removeIf(key -> Objects.equals(key.getSource(), source)
+                && Objects.equals(key.getDiscriminator(), discriminator));
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.counts.clear();
+    }
+
+    /**
+     * A cached count.
+     */
+    private static final class Entry {
+
+        /**
+         * The Count.
+         */
+        private final long count;
+
+        /**
+         * The expiration time.
+         */
+        private final long expiresAt;
+
+        /**
+         * Instantiates a new Entry.
+         *
+         * @param count     the count
+         * @param expiresAt the expiration time
+         */
+        private Entry(final long count, final long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -72,6 +72,18 @@ public class RowExtraDataImpl<E> implements RowExtraData<E> {
         this.rowAttr = null;
     }
 
+    /**
+     * Instantiates a new Row extra data as a copy of another one.
+     *
+     * @param other the row extra data to copy
+     */
+    public RowExtraDataImpl(final RowExtraDataImpl<E> other) {
+        this.rowId = other.rowId;
+        this.rowClass = other.rowClass;
+        this.rowData = other.rowData;
+        this.rowAttr = other.rowAttr;
+    }
+
     /**
      * Checks if any of the fields are present (not null).
      *
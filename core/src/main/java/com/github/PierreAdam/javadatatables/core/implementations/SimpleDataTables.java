@@ -24,34 +24,53 @@
 
 package com.github.PierreAdam.javadatatables.core.implementations;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.PierreAdam.javadatatables.core.accessors.EntityAccessors;
 import com.github.PierreAdam.javadatatables.core.configs.JavaDataTablesConfig;
 import com.github.PierreAdam.javadatatables.core.converters.Converter;
+import com.github.PierreAdam.javadatatables.core.converters.ConverterRegistry;
 import com.github.PierreAdam.javadatatables.core.entities.Column;
 import com.github.PierreAdam.javadatatables.core.entities.Parameters;
 import com.github.PierreAdam.javadatatables.core.entities.internal.AjaxResult;
+import com.github.PierreAdam.javadatatables.core.entities.internal.ColumnSlot;
+import com.github.PierreAdam.javadatatables.core.entities.internal.DataTablesDefinition;
 import com.github.PierreAdam.javadatatables.core.entities.internal.DataSource;
 import com.github.PierreAdam.javadatatables.core.entities.internal.FieldBehavior;
+import com.github.PierreAdam.javadatatables.core.entities.internal.RenderPlan;
+import com.github.PierreAdam.javadatatables.core.entities.internal.ResponseDictionaries;
+import com.github.PierreAdam.javadatatables.core.entities.internal.StreamingDataSource;
 import com.github.PierreAdam.javadatatables.core.enumerations.OrderEnum;
+import com.github.PierreAdam.javadatatables.core.exceptions.InitializationException;
 import com.github.PierreAdam.javadatatables.core.interfaces.DataTables;
 import com.github.PierreAdam.javadatatables.core.interfaces.RowExtraData;
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.InvocationTargetException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -71,7 +90,7 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
     /**
      * The potential prefixes of the getter in the target classes.
      */
-    protected static final String[] METHOD_PREFIXES = {"get", "is", "has", "can"};
+    protected static final String[] METHOD_PREFIXES = EntityAccessors.METHOD_PREFIXES;
 
     /**
      * The Logger.
@@ -83,11 +102,28 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      */
     protected final Class<E> entityClass;
 
+    /**
+     * The accessors of the entity class, resolved once per column name.
+     */
+    protected final EntityAccessors<E> entityAccessors;
+
     /**
      * The Object mapper.
      */
     protected final ObjectMapper objectMapper;
 
+    /**
+     * The writer of the values of the written answers. It doesn't flush the output after each value, the answer is
+     * flushed once written.
+     */
+    protected final ObjectWriter valueWriter;
+
+    /**
+     * The codec of the generators of the written answers, used by the converters without a direct write path.
+     * It is a copy of the object mapper which doesn't flush the output after each value.
+     */
+    protected final ObjectMapper writingCodec;
+
     /**
      * The fields specific behavior.
      * If set for a given field, the supplier, search handler or order handler might be used.
@@ -102,7 +138,7 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
     /**
      * The instance specific converters.
      */
-    private final Map<Class<?>, Converter<?>> converters;
+    private volatile ConverterRegistry converters;
 
     /**
      * The global search supplier. If set, the handler will be called when a search not specific to a field is required.
@@ -119,6 +155,26 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      */
     protected RowExtraDataImpl<E> rowExtraData;
 
+    /**
+     * The frozen definition. Null as long as {@link #freeze()} hasn't been called.
+     */
+    private volatile DataTablesDefinition<E, S, C> definition;
+
+    /**
+     * The executor rendering the rows of the large pages. Null if the rows are rendered by the request thread.
+     */
+    protected Executor renderingExecutor;
+
+    /**
+     * The number of rows from which the rows are rendered by the rendering executor.
+     */
+    protected int parallelRenderingThreshold;
+
+    /**
+     * Whether the columns having a dictionary are encoded in the array answers.
+     */
+    protected boolean compactAnswer;
+
     /**
      * Instantiates a new A play data tables.
      *
@@ -129,31 +185,130 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
     public SimpleDataTables(final Class<E> entityClass, final ObjectMapper objectMapper, final Supplier<S> providerSupplier) {
         this.logger = LoggerFactory.getLogger(this.getClass());
         this.entityClass = entityClass;
+        this.entityAccessors = EntityAccessors.of(entityClass);
         this.objectMapper = objectMapper;
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.writingCodec = SimpleDataTables.nonFlushingCodec(objectMapper);
         this.providerSupplier = providerSupplier;
 
         this.fieldsBehavior = new HashMap<>();
-        this.converters = new HashMap<>();
+        this.converters = ConverterRegistry.empty();
         this.globalSearchHandler = null;
         this.rowExtraData = new RowExtraDataImpl<>();
+        this.renderingExecutor = null;
+        this.parallelRenderingThreshold = 500;
+        this.compactAnswer = false;
+    }
+
+    /**
+     * Freeze the configuration of the DataTables into an immutable definition.
+     * Once frozen, the requests are processed from the definition only and the instance can safely be shared between
+     * threads. Any further attempt to configure the instance throws an {@link InitializationException}.
+     *
+     * @return itself
+     */
+    public synchronized U freeze() {
+        if (this.definition == null) {
+            this.definition = this.snapshotDefinition();
+        }
+
+        return this.asSelf();
+    }
+
+    /**
+     * Checks if the configuration is frozen.
+     *
+     * @return true if frozen
+     */
+    public boolean isFrozen() {
+        return this.definition != null;
+    }
+
+    /**
+     * Gets the definition used to process a request. If the instance is not frozen, a snapshot of the current
+     * configuration is taken.
+     *
+     * @return the definition
+     */
+    protected DataTablesDefinition<E, S, C> getDefinition() {
+        final DataTablesDefinition<E, S, C> frozen = this.definition;
+
+        return frozen != null ? frozen : this.snapshotDefinition();
+    }
+
+    /**
+     * Take a snapshot of the current configuration.
+     *
+     * @return the definition
+     */
+    private synchronized DataTablesDefinition<E, S, C> snapshotDefinition() {
+        return new DataTablesDefinition<>(this.fieldsBehavior, this.converters, this.rowExtraData,
+                this.globalSearchHandler, this.initProviderConsumer, this.renderingExecutor, this.parallelRenderingThreshold,
+                this.compactAnswer);
+    }
+
+    /**
+     * Ensure the configuration can still be modified.
+     */
+    protected void ensureNotFrozen() {
+        if (this.definition != null) {
+            throw new InitializationException("The DataTables has been frozen and can't be configured anymore.");
+        }
     }
 
     @Override
-    public U setInitProviderConsumer(final Consumer<S> initQueryConsumer) {
+    public synchronized U setInitProviderConsumer(final Consumer<S> initQueryConsumer) {
+        this.ensureNotFrozen();
         this.initProviderConsumer = initQueryConsumer;
 
         return this.asSelf();
     }
 
     @Override
-    public U setGlobalSearchHandler(final BiConsumer<S, String> globalSearchHandler) {
+    public synchronized U setGlobalSearchHandler(final BiConsumer<S, String> globalSearchHandler) {
+        this.ensureNotFrozen();
         this.globalSearchHandler = globalSearchHandler;
 
         return this.asSelf();
     }
 
+    /**
+     * Render the rows of the large pages in parallel. The pages are split in chunks rendered by the executor, the
+     * chunks are reassembled in order. The pages smaller than the threshold are rendered by the request thread.
+     * The display suppliers, the row extra data and the converters must be thread-safe.
+     *
+     * @param renderingExecutor          the rendering executor, a {@code ForkJoinPool} for example, or null to render
+     *                                   the rows by the request thread
+     * @param parallelRenderingThreshold the number of rows from which the rows are rendered in parallel
+     * @return itself
+     */
+    public synchronized U setParallelRendering(final Executor renderingExecutor, final int parallelRenderingThreshold) {
+        this.ensureNotFrozen();
+        this.renderingExecutor = renderingExecutor;
+        this.parallelRenderingThreshold = parallelRenderingThreshold;
+
+        return this.asSelf();
+    }
+
+    /**
+     * Encode the columns having a dictionary in the answers rendered as arrays. The values of these columns are
+     * replaced in the rows by small integer codes and each answer carries, under the "dictionaries" key, the values
+     * of the codes by column index. The client has to decode the rows before rendering them.
+     *
+     * @param compactAnswer true to encode the answers
+     * @return itself
+     * @see FieldBehavior#setDictionary(int)
+     */
+    public synchronized U setCompactAnswer(final boolean compactAnswer) {
+        this.ensureNotFrozen();
+        this.compactAnswer = compactAnswer;
+
+        return this.asSelf();
+    }
+
     @Override
-    public U setRowExtraData(final Consumer<RowExtraData<E>> rowExtraDataConsumer) {
+    public synchronized U setRowExtraData(final Consumer<RowExtraData<E>> rowExtraDataConsumer) {
+        this.ensureNotFrozen();
         rowExtraDataConsumer.accept(this.rowExtraData);
 
         return this.asSelf();
@@ -163,43 +318,432 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
     public JsonNode getAjaxResult(final Parameters parameters, final C context) {
         // Prepare data from the parameters and prepare the answer.
         final AjaxResult result = new AjaxResult(parameters.getDraw(), this.objectMapper);
+        final DataTablesDefinition<E, S, C> definition = this.getDefinition();
+        final DataSource<E> source = this.fetchDataSource(parameters, context, definition);
+        final RenderPlan<E, C> plan = this.compilePlan(parameters, definition);
+        final List<JsonNode> rows = this.renderRows(source.getEntities(), plan, context, definition);
+
+        if (plan.isCompactAnswer()) {
+            final ResponseDictionaries dictionaries = new ResponseDictionaries(plan.getEncodedColumns());
+
+            rows.forEach(row -> dictionaries.encode((ArrayNode) row));
+            result.setDictionaries(dictionaries.asNode(this.objectMapper));
+        }
+        result.getData().addAll(rows);
+
+        result.setRecordsTotal(source.getRecordsTotal());
+        result.setRecordsFiltered(source.getRecordsFiltered());
+        result.setSeek(source.getSeek());
+
+        return this.objectMapper.valueToTree(result);
+    }
+
+    @Override
+    public void writeAjaxResult(final Parameters parameters, final C context, final JsonGenerator generator) throws IOException {
+        final DataTablesDefinition<E, S, C> definition = this.getDefinition();
+        final RenderPlan<E, C> plan = this.compilePlan(parameters, definition);
+
+        // The converters without a direct write path write their value node with the codec of the generator, the
+        // codec of the caller is restored once the answer is written.
+        final ObjectCodec callerCodec = generator.getCodec();
+
+        generator.setCodec(this.writingCodec);
+        try (final StreamingDataSource<E> source = this.streamDataSource(parameters, context, definition)) {
+            generator.writeStartObject();
+            generator.writeNumberField("draw", parameters.getDraw());
+            generator.writeNumberField("recordsTotal", source.getRecordsTotal());
+            generator.writeNumberField("recordsFiltered", source.getRecordsFiltered());
+            generator.writeArrayFieldStart("data");
+
+            final ResponseDictionaries dictionaries = plan.isCompactAnswer() ? new ResponseDictionaries(plan.getEncodedColumns()) : null;
+
+            if (definition.getRenderingExecutor() == null) {
+                while (source.getEntities().hasNext()) {
+                    this.writeRow(source.getEntities().next(), plan, context, dictionaries, generator);
+                }
+            } else {
+                // The entities are written by batches of the parallel rendering threshold.
+                final int batchSize = Math.max(definition.getParallelRenderingThreshold(), 1);
+                final List<E> batch = new ArrayList<>(batchSize);
+
+                while (source.getEntities().hasNext()) {
+                    batch.add(source.getEntities().next());
+                    if (batch.size() == batchSize || !source.getEntities().hasNext()) {
+                        this.writeRows(batch, plan, context, definition, dictionaries, generator);
+                        batch.clear();
+                    }
+                }
+            }
+
+            generator.writeEndArray();
+
+            if (dictionaries != null) {
+                dictionaries.write(generator, this.valueWriter);
+            }
+
+            // The seek key is only known once the entities are consumed.
+            final List<String> seek = source.getSeek();
+
+            if (seek != null) {
+                generator.writeArrayFieldStart("seek");
+                for (final String value : seek) {
+                    generator.writeString(value);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        } finally {
+            generator.setCodec(callerCodec);
+        }
+        generator.flush();
+    }
+
+    @Override
+    public void writeAjaxResult(final Parameters parameters, final C context, final OutputStream outputStream) throws IOException {
+        try (final JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream)) {
+            // The output stream belongs to the caller.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.writeAjaxResult(parameters, context, generator);
+        }
+    }
+
+    /**
+     * Gets a copy of the object mapper which doesn't flush the output after each value. The object mapper itself is
+     * used if it can't be copied.
+     *
+     * @param objectMapper the object mapper
+     * @return the codec
+     */
+    private static ObjectMapper nonFlushingCodec(final ObjectMapper objectMapper) {
+        try {
+            return objectMapper.copy().disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        } catch (final IllegalStateException e) {
+            // The subclasses of the object mapper not overriding copy() can't be copied.
+            return objectMapper;
+        }
+    }
+
+    /**
+     * Forge the provider, apply the parameters on it and retrieve the data source.
+     *
+     * @param parameters the parameters
+     * @param context    the context
+     * @param definition the definition
+     * @return the data source
+     */
+    protected DataSource<E> fetchDataSource(final Parameters parameters, final C context, final DataTablesDefinition<E, S, C> definition) {
+        return this.processProvider(this.forgeProvider(definition), context, parameters, definition);
+    }
+
+    /**
+     * Forge the provider, apply the parameters on it and stream the data source.
+     *
+     * @param parameters the parameters
+     * @param context    the context
+     * @param definition the definition
+     * @return the streaming data source
+     */
+    protected StreamingDataSource<E> streamDataSource(final Parameters parameters, final C context, final DataTablesDefinition<E, S, C> definition) {
+        final S provider = this.forgeProvider(definition);
+
+        this.prepareProvider(provider, context, parameters, definition);
+
+        return this.streamingDataSourceFromProvider(provider, context);
+    }
+
+    /**
+     * Forge the provider and initialize it.
+     *
+     * @param definition the definition
+     * @return the provider
+     */
+    private S forgeProvider(final DataTablesDefinition<E, S, C> definition) {
         final S provider = this.internalForgeInitialProvider(this.providerSupplier);
 
-        if (this.initProviderConsumer != null) {
-            this.initProviderConsumer.accept(provider);
+        if (definition.getInitProviderConsumer() != null) {
+            definition.getInitProviderConsumer().accept(provider);
+        }
+
+        return provider;
+    }
+
+    /**
+     * Compile the parameters into the rendering plan of the request. The columns are resolved once, the rendering
+     * of each row only iterates over the slots of the plan.
+     *
+     * @param parameters the parameters
+     * @param definition the definition
+     * @return the render plan
+     */
+    protected RenderPlan<E, C> compilePlan(final Parameters parameters, final DataTablesDefinition<E, S, C> definition) {
+        final Function<Object, Converter<?>> converterResolver = obj -> this.tryFindConverter(obj, definition.getConverters());
+        final List<Column> columns = parameters.getOrderedColumns();
+        final List<ColumnSlot<E, C>> slots = new ArrayList<>(columns.size());
+
+        for (final Column column : columns) {
+            final String columnName = column == null ? null : column.getSafeName();
+
+            if (columnName == null) {
+                slots.add(new ColumnSlot<>(null, null, null, converterResolver));
+                continue;
+            }
+
+            final FieldBehavior<E, S, C> fieldBehavior = definition.getField(columnName);
+            final BiFunction<E, C, String> displaySupplier = fieldBehavior == null ? null : fieldBehavior.getDisplaySupplier().orElse(null);
+            final Function<E, Object> accessor = displaySupplier == null ? this.entityAccessors.accessor(columnName) : null;
+
+            if (displaySupplier == null && accessor == null) {
+                this.logger.warn("No getter were find for the field \"{}\" and no displaySupplier were set. Adding null !", columnName);
+            }
+
+            slots.add(new ColumnSlot<>(columnName, displaySupplier, accessor, converterResolver,
+                    fieldBehavior == null ? null : fieldBehavior.getDictionary().orElse(null)));
+        }
+
+        return new RenderPlan<>(slots, this.useObjectAnswer(parameters), definition.isCompactAnswer(), definition.getRowExtraData());
+    }
+
+    /**
+     * Render a single entity as a row of the answer.
+     *
+     * @param entity  the entity
+     * @param plan    the render plan
+     * @param context the context
+     * @return the json node
+     */
+    protected JsonNode renderRow(final E entity, final RenderPlan<E, C> plan, final C context) {
+        if (plan.isObjectAnswer()) {
+            final ObjectNode objectNode = this.objectToObjectNode(entity, plan, context);
+
+            final RowExtraDataImpl<E> rowExtraData = plan.getRowExtraData();
+
+            if (rowExtraData.present()) {
+                rowExtraData.getOptionalRowId().map(fnc -> fnc.apply(entity))
+                        .ifPresent(rowId -> objectNode.put("DT_RowId", rowId));
+                rowExtraData.getOptionalRowClass().map(fnc -> fnc.apply(entity))
+                        .ifPresent(rowClass -> objectNode.put("DT_RowClass", rowClass));
+                rowExtraData.getOptionalRowData().map(fnc -> fnc.apply(entity))
+                        .ifPresent(rowData -> objectNode.set("DT_RowData", this.objectMapper.valueToTree(rowData)));
+                rowExtraData.getOptionalRowAttr().map(fnc -> fnc.apply(entity))
+                        .ifPresent(rowAttr -> objectNode.set("DT_RowAttr", this.objectMapper.valueToTree(rowAttr)));
+            }
+
+            return objectNode;
+        } else {
+            return this.objectToArrayNode(entity, plan, context);
+        }
+    }
+
+    /**
+     * Write a single entity as a row of the answer directly to a json generator, without building the nodes.
+     *
+     * @param entity    the entity
+     * @param plan      the render plan
+     * @param context   the context
+     * @param generator the generator
+     * @throws IOException if the row can't be written
+     */
+    protected void writeRow(final E entity, final RenderPlan<E, C> plan, final C context, final JsonGenerator generator) throws IOException {
+        if (!plan.isObjectAnswer()) {
+            generator.writeStartArray();
+            for (final ColumnSlot<E, C> slot : plan.getSlots()) {
+                slot.write(entity, context, generator);
+            }
+            generator.writeEndArray();
+            return;
+        }
+
+        generator.writeStartObject();
+        for (final ColumnSlot<E, C> slot : plan.getObjectSlots()) {
+            generator.writeFieldName(slot.getName());
+            slot.write(entity, context, generator);
+        }
+
+        final RowExtraDataImpl<E> rowExtraData = plan.getRowExtraData();
+
+        if (rowExtraData.present()) {
+            // As for the rendered rows, the extra data is omitted when its function returns null.
+            final String rowId = rowExtraData.getOptionalRowId().map(fnc -> fnc.apply(entity)).orElse(null);
+            final String rowClass = rowExtraData.getOptionalRowClass().map(fnc -> fnc.apply(entity)).orElse(null);
+            final Object rowData = rowExtraData.getOptionalRowData().map(fnc -> fnc.apply(entity)).orElse(null);
+            final Object rowAttr = rowExtraData.getOptionalRowAttr().map(fnc -> fnc.apply(entity)).orElse(null);
+
+            if (rowId != null) {
+                generator.writeStringField("DT_RowId", rowId);
+            }
+            if (rowClass != null) {
+                generator.writeStringField("DT_RowClass", rowClass);
+            }
+            if (rowData != null) {
+                generator.writeFieldName("DT_RowData");
+                this.valueWriter.writeValue(generator, rowData);
+            }
+            if (rowAttr != null) {
+                generator.writeFieldName("DT_RowAttr");
+                this.valueWriter.writeValue(generator, rowAttr);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Render the entities as the rows of the answer. The large pages are rendered in parallel by chunks if a
+     * rendering executor is set.
+     *
+     * @param entities   the entities
+     * @param plan       the render plan
+     * @param context    the context
+     * @param definition the definition
+     * @return the rows, in the order of the entities
+     */
+    protected List<JsonNode> renderRows(final List<E> entities, final RenderPlan<E, C> plan, final C context,
+                                        final DataTablesDefinition<E, S, C> definition) {
+        final Executor executor = definition.getRenderingExecutor();
+        final int chunks = Math.min(Runtime.getRuntime().availableProcessors(), entities.size());
+
+        if (executor == null || chunks <= 1 || entities.size() < definition.getParallelRenderingThreshold()) {
+            final List<JsonNode> rows = new ArrayList<>(entities.size());
+
+            for (final E entity : entities) {
+                rows.add(this.renderRow(entity, plan, context));
+            }
+
+            return rows;
         }
 
-        final DataSource<E> source = this.processProvider(provider, context, parameters);
+        final int chunkSize = (entities.size() + chunks - 1) / chunks;
+        final List<CompletableFuture<List<JsonNode>>> renderedChunks = new ArrayList<>(chunks);
 
-        for (final E entity : source.getEntities()) {
-            final JsonNode value;
+        for (int start = 0; start < entities.size(); start += chunkSize) {
+            final List<E> chunk = entities.subList(start, Math.min(start + chunkSize, entities.size()));
 
-            if (this.useObjectAnswer(parameters)) {
-                final ObjectNode objectNode = this.objectToObjectNode(entity, parameters, context);
+            renderedChunks.add(CompletableFuture.supplyAsync(() -> {
+                final List<JsonNode> rows = new ArrayList<>(chunk.size());
 
-                if (this.rowExtraData.present()) {
-                    this.rowExtraData.getOptionalRowId().map(fnc -> fnc.apply(entity))
-                            .ifPresent(rowId -> objectNode.put("DT_RowId", rowId));
-                    this.rowExtraData.getOptionalRowClass().map(fnc -> fnc.apply(entity))
-                            .ifPresent(rowClass -> objectNode.put("DT_RowClass", rowClass));
-                    this.rowExtraData.getOptionalRowData().map(fnc -> fnc.apply(entity))
-                            .ifPresent(rowData -> objectNode.set("DT_RowData", this.objectMapper.valueToTree(rowData)));
-                    this.rowExtraData.getOptionalRowAttr().map(fnc -> fnc.apply(entity))
-                            .ifPresent(rowAttr -> objectNode.set("DT_RowAttr", this.objectMapper.valueToTree(rowAttr)));
+                for (final E entity : chunk) {
+                    rows.add(this.renderRow(entity, plan, context));
                 }
 
-                value = objectNode;
+                return rows;
+            }, executor));
+        }
+
+        final List<JsonNode> rows = new ArrayList<>(entities.size());
+
+        try {
+            for (final CompletableFuture<List<JsonNode>> renderedChunk : renderedChunks) {
+                rows.addAll(renderedChunk.join());
+            }
+        } catch (final CompletionException e) {
+            renderedChunks.forEach(renderedChunk -> renderedChunk.cancel(false));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+
+        return rows;
+    }
+
+    /**
+     * Write a single entity as a row of the answer directly to a json generator. In a compact answer, the encoded
+     * columns are written as the code of their value.
+     *
+     * @param entity       the entity
+     * @param plan         the render plan
+     * @param context      the context
+     * @param dictionaries the dictionaries of a compact answer, null otherwise
+     * @param generator    the generator
+     * @throws IOException if the row can't be written
+     */
+    protected void writeRow(final E entity, final RenderPlan<E, C> plan, final C context, final ResponseDictionaries dictionaries,
+                            final JsonGenerator generator) throws IOException {
+        if (dictionaries == null) {
+            this.writeRow(entity, plan, context, generator);
+            return;
+        }
+
+        // A compact answer is always rendered as arrays.
+        final ColumnSlot<E, C>[] slots = plan.getSlots();
+
+        generator.writeStartArray();
+        for (int i = 0; i < slots.length; i++) {
+            if (dictionaries.encodes(i)) {
+                slots[i].write(entity, context, dictionaries, i, generator);
             } else {
-                value = this.objectToArrayNode(entity, parameters, context);
+                slots[i].write(entity, context, generator);
             }
+        }
+        generator.writeEndArray();
+    }
 
-            result.getData().add(value);
+    /**
+     * Write the entities as the rows of the answer directly to a json generator. The large pages are written in
+     * parallel by chunks if a rendering executor is set: each chunk is written to its own token buffer, the buffers
+     * are then copied to the generator in order.
+     *
+     * @param entities     the entities
+     * @param plan         the render plan
+     * @param context      the context
+     * @param definition   the definition
+     * @param dictionaries the dictionaries of a compact answer, null otherwise
+     * @param generator    the generator
+     * @throws IOException if the rows can't be written
+     */
+    protected void writeRows(final List<E> entities, final RenderPlan<E, C> plan, final C context,
+                             final DataTablesDefinition<E, S, C> definition, final ResponseDictionaries dictionaries,
+                             final JsonGenerator generator) throws IOException {
+        final Executor executor = definition.getRenderingExecutor();
+        final int chunks = Math.min(Runtime.getRuntime().availableProcessors(), entities.size());
+
+        if (executor == null || chunks <= 1 || entities.size() < definition.getParallelRenderingThreshold()) {
+            for (final E entity : entities) {
+                this.writeRow(entity, plan, context, dictionaries, generator);
+            }
+            return;
         }
 
-        result.setRecordsTotal(source.getRecordsTotal());
-        result.setRecordsFiltered(source.getRecordsFiltered());
+        final int chunkSize = (entities.size() + chunks - 1) / chunks;
+        final List<CompletableFuture<TokenBuffer>> writtenChunks = new ArrayList<>(chunks);
 
-        return this.objectMapper.valueToTree(result);
+        for (int start = 0; start < entities.size(); start += chunkSize) {
+            final List<E> chunk = entities.subList(start, Math.min(start + chunkSize, entities.size()));
+
+            writtenChunks.add(CompletableFuture.supplyAsync(() -> {
+                final TokenBuffer buffer = new TokenBuffer(generator.getCodec(), false);
+
+                try {
+                    for (final E entity : chunk) {
+                        this.writeRow(entity, plan, context, dictionaries, buffer);
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                return buffer;
+            }, executor));
+        }
+
+        try {
+            for (final CompletableFuture<TokenBuffer> writtenChunk : writtenChunks) {
+                writtenChunk.join().serialize(generator);
+            }
+        } catch (final CompletionException e) {
+            writtenChunks.forEach(writtenChunk -> writtenChunk.cancel(false));
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
     }
 
     /**
@@ -209,14 +753,9 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      * @return the boolean
      */
     private boolean useObjectAnswer(final Parameters parameters) {
-        for (final Column column : parameters.getColumns()) {
-            if (column.getData() != null) {
-                try {
-                    Long.parseLong(column.getData());
-                } catch (final NumberFormatException ignore) {
-                    return true;
-                    // Not a number, continue checking
-                }
+        for (final Column column : parameters.getSafeColumns()) {
+            if (column != null && column.getData() != null && !SimpleDataTables.isIndex(column.getData())) {
+                return true;
             }
         }
 
@@ -224,6 +763,38 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
         return false;
     }
 
+    /**
+     * Check if the data of a column is a numerical index.
+     *
+     * @param data the data
+     * @return true if the data is a number
+     */
+    private static boolean isIndex(final String data) {
+        final int start = !data.isEmpty() && (data.charAt(0) == '-' || data.charAt(0) == '+') ? 1 : 0;
+
+        if (data.length() == start) {
+            return false;
+        }
+
+        for (int i = start; i < data.length(); i++) {
+            if (!Character.isDigit(data.charAt(i))) {
+                return false;
+            }
+        }
+
+        if (data.length() - start < 19) {
+            return true;
+        }
+
+        // Might overflow a long.
+        try {
+            Long.parseLong(data);
+            return true;
+        } catch (final NumberFormatException ignore) {
+            return false;
+        }
+    }
+
     /**
      * Process provider data source.
      *
@@ -233,18 +804,48 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      * @return the data source
      */
     protected DataSource<E> processProvider(final S provider, final C context, final Parameters parameters) {
+        return this.processProvider(provider, context, parameters, this.getDefinition());
+    }
+
+    /**
+     * Process provider data source.
+     *
+     * @param provider   the provider
+     * @param context    the context
+     * @param parameters the parameters
+     * @param definition the definition
+     * @return the data source
+     */
+    protected DataSource<E> processProvider(final S provider, final C context, final Parameters parameters,
+                                            final DataTablesDefinition<E, S, C> definition) {
+        this.prepareProvider(provider, context, parameters, definition);
+
+        return this.dataSourceFromProvider(provider, context);
+    }
+
+    /**
+     * Apply the pagination, the search and the order of the parameters on the provider.
+     *
+     * @param provider   the provider
+     * @param context    the context
+     * @param parameters the parameters
+     * @param definition the definition
+     */
+    protected void prepareProvider(final S provider, final C context, final Parameters parameters,
+                                   final DataTablesDefinition<E, S, C> definition) {
         // Set the pagination on the provider.
         this.setPagination(provider, parameters.getStart(), parameters.getLength());
+        if (parameters.getSeek() != null && !parameters.getSeek().isEmpty()) {
+            this.setSeek(provider, parameters.getSeek());
+        }
 
         this.preSearchHook(provider, context, parameters);
-        this.applySearch(provider, parameters);
+        this.applySearch(provider, parameters, definition);
         this.postSearchHook(provider, context, parameters);
 
         this.preOrderHook(provider, context, parameters);
-        this.applyOrder(provider, parameters);
+        this.applyOrder(provider, parameters, definition);
         this.postOrderHook(provider, context, parameters);
-
-        return this.dataSourceFromProvider(provider, context);
     }
 
     /**
@@ -252,12 +853,13 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      *
      * @param provider   the provider
      * @param parameters the parameters
+     * @param definition the definition
      */
-    private void applySearch(final S provider, final Parameters parameters) {
+    private void applySearch(final S provider, final Parameters parameters, final DataTablesDefinition<E, S, C> definition) {
         // Process global search.
         parameters.getOptionalGlobalSearch().ifPresent(search -> {
-            if (this.globalSearchHandler != null) {
-                this.globalSearchHandler.accept(provider, parameters.getSearch().getValue());
+            if (definition.getGlobalSearchHandler() != null) {
+                definition.getGlobalSearchHandler().accept(provider, parameters.getSearch().getValue());
             } else {
                 this.logger.warn("A global search has been asked for but the global search handler is null. setGlobalSearchHandler needs to be called.");
             }
@@ -269,7 +871,8 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
                 .filter(column -> column != null && column.hasSearch())
                 .forEach(column -> {
                     final String columnName = column.getSafeName();
-                    final Optional<BiConsumer<S, String>> optionalSearchHandler = this.field(columnName).getSearchHandler();
+                    final FieldBehavior<E, S, C> fieldBehavior = definition.getField(columnName);
+                    final Optional<BiConsumer<S, String>> optionalSearchHandler = fieldBehavior == null ? Optional.empty() : fieldBehavior.getSearchHandler();
 
                     if (optionalSearchHandler.isPresent()) {
                         optionalSearchHandler.get().accept(provider, column.getSearch().getValue());
@@ -284,13 +887,15 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      *
      * @param provider   the provider
      * @param parameters the parameters
+     * @param definition the definition
      */
-    private void applyOrder(final S provider, final Parameters parameters) {
+    private void applyOrder(final S provider, final Parameters parameters, final DataTablesDefinition<E, S, C> definition) {
         final Map<Integer, Column> indexedColumns = parameters.getIndexedColumns();
 
         parameters.getSafeOrder().forEach(order -> {
             final String columnName = indexedColumns.get(order.getColumn()).getSafeName();
-            final Optional<BiConsumer<S, OrderEnum>> optionalOrderHandler = this.field(columnName).getOrderHandler();
+            final FieldBehavior<E, S, C> fieldBehavior = definition.getField(columnName);
+            final Optional<BiConsumer<S, OrderEnum>> optionalOrderHandler = fieldBehavior == null ? Optional.empty() : fieldBehavior.getOrderHandler();
 
             if (optionalOrderHandler.isPresent()) {
                 optionalOrderHandler.get().accept(provider, order.getOrder());
@@ -317,23 +922,31 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      * @param parameters the parameters
      * @param context    the context
      * @return the array node
+     * @deprecated the rows are rendered from a plan compiled once per request by
+     * {@link #renderRow(Object, RenderPlan, Object)} and written by
+     * {@link #writeRow(Object, RenderPlan, Object, JsonGenerator)}, override them instead. This method is no longer
+     * called.
      */
+    @Deprecated
     protected ArrayNode objectToArrayNode(final E entity, final Parameters parameters, final C context) {
-        final ArrayNode data = this.objectMapper.createArrayNode();
+        return this.objectToArrayNode(entity, this.compilePlan(parameters, this.getDefinition()), context);
+    }
 
-        parameters.getOrderedColumns().forEach(column -> {
-            if (column == null || column.getSafeName() == null) {
-                data.addNull();
-            } else {
-                final Optional<BiFunction<E, C, String>> optionalDisplaySupplier = this.field(column.getSafeName()).getDisplaySupplier();
+    /**
+     * Convert an object to an Array node using the columns of the plan.
+     *
+     * @param entity  the object
+     * @param plan    the render plan
+     * @param context the context
+     * @return the array node
+     */
+    protected ArrayNode objectToArrayNode(final E entity, final RenderPlan<E, C> plan, final C context) {
+        final ColumnSlot<E, C>[] slots = plan.getSlots();
+        final ArrayNode data = this.objectMapper.createArrayNode();
 
-                if (optionalDisplaySupplier.isPresent()) {
-                    data.add(optionalDisplaySupplier.get().apply(entity, context));
-                } else {
-                    data.add(this.resolveColumn(column, entity, context));
-                }
-            }
-        });
+        for (final ColumnSlot<E, C> slot : slots) {
+            data.add(slot.render(entity, context));
+        }
 
         return data;
     }
@@ -345,22 +958,33 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      * @param parameters the parameters
      * @param context    the context
      * @return the json node
+     * @deprecated the rows are rendered from a plan compiled once per request by
+     * {@link #renderRow(Object, RenderPlan, Object)} and written by
+     * {@link #writeRow(Object, RenderPlan, Object, JsonGenerator)}, override them instead. This method is no longer
+     * called.
      */
+    @Deprecated
     protected ObjectNode objectToObjectNode(final E entity, final Parameters parameters, final C context) {
-        final ObjectNode data = this.objectMapper.createObjectNode();
+        return this.objectToObjectNode(entity, this.compilePlan(parameters, this.getDefinition()), context);
+    }
 
-        parameters.getOrderedColumns().stream().filter(Objects::nonNull).forEach(column -> {
-            final String columnName = column.getSafeName();
-            final Optional<BiFunction<E, C, String>> optionalDisplaySupplier = this.field(columnName).getDisplaySupplier();
+    /**
+     * Object to object node json node using the columns of the plan.
+     *
+     * @param entity  the entity
+     * @param plan    the render plan
+     * @param context the context
+     * @return the json node
+     */
+    protected ObjectNode objectToObjectNode(final E entity, final RenderPlan<E, C> plan, final C context) {
+        final ColumnSlot<E, C>[] slots = plan.getSlots();
+        final ObjectNode data = this.objectMapper.createObjectNode();
 
-            if (columnName != null) {
-                if (optionalDisplaySupplier.isPresent()) {
-                    data.put(columnName, optionalDisplaySupplier.get().apply(entity, context));
-                } else {
-                    data.set(columnName, this.resolveColumn(column, entity, context));
-                }
+        for (final ColumnSlot<E, C> slot : slots) {
+            if (slot.getName() != null) {
+                data.set(slot.getName(), slot.render(entity, context));
             }
-        });
+        }
 
         return data;
     }
@@ -372,26 +996,31 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      * @param entity  the entity
      * @param context the context
      * @return the json node
+     * @deprecated the columns are resolved once per request by {@link #compilePlan(Parameters, DataTablesDefinition)},
+     * this method is no longer called when rendering the rows.
      */
+    @Deprecated
     protected JsonNode resolveColumn(final Column column, final E entity, final C context) {
-        final Method method = this.methodForColumn(column);
+        final Function<E, Object> accessor = this.entityAccessors.accessor(column.getSafeName());
 
-        if (method == null) {
+        if (accessor == null) {
             this.logger.warn("No getter were find for the field \"{}\" and no displaySupplier were set. Adding null !",
                     column.getSafeName());
             return NullNode.getInstance();
         }
 
+        final Object obj;
         try {
-            final Object obj = method.invoke(entity);
-            final Converter<?> converter = this.tryFindConverter(obj);
+            obj = accessor.apply(entity);
+        } catch (final RuntimeException ignore) {
+            return NullNode.getInstance();
+        }
 
-            if (converter != null) {
-                return converter.asValueNode(obj, context);
-            } else {
-                return NullNode.getInstance();
-            }
-        } catch (final IllegalAccessException | InvocationTargetException e) {
+        final Converter<?> converter = this.tryFindConverter(obj);
+
+        if (converter != null) {
+            return converter.asValueNode(obj, context);
+        } else {
             return NullNode.getInstance();
         }
     }
@@ -403,18 +1032,27 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      * @return the converter
      */
     protected Converter<?> tryFindConverter(final Object obj) {
+        return this.tryFindConverter(obj, this.converters);
+    }
+
+    /**
+     * Try to find a converter for the given object.
+     *
+     * @param obj        the obj
+     * @param converters the instance specific converters
+     * @return the converter
+     */
+    protected Converter<?> tryFindConverter(final Object obj, final ConverterRegistry converters) {
         if (obj == null) {
             return null;
         }
 
-        Converter<?> converter = null;
-
         // Try getting a converter with the instance converters.
-        converter = this.getConverterFromMap(obj, this.converters);
+        final Converter<?> converter = converters.resolve(obj.getClass());
 
         if (converter == null) {
             // Try getting a converter from the global converters.
-            converter = this.getConverterFromMap(obj, JavaDataTablesConfig.getInstance().getConverters());
+            return JavaDataTablesConfig.getInstance().getConverterRegistry().resolve(obj.getClass());
         }
 
         return converter;
@@ -426,7 +1064,10 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      * @param obj        the obj
      * @param converters the converters
      * @return the converter
+     * @deprecated the converters are resolved by the {@link ConverterRegistry}, see
+     * {@link #tryFindConverter(Object, ConverterRegistry)}. This method is no longer called.
      */
+    @Deprecated
     protected Converter<?> getConverterFromMap(final Object obj, final Map<Class<?>, Converter<?>> converters) {
         final Class<?> objClass = obj.getClass();
 
@@ -450,25 +1091,17 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
      *
      * @param column the column
      * @return the method or null
+     * @deprecated the getters are resolved once per column name by the {@link EntityAccessors} of the entity class,
+     * this method is no longer called when rendering the rows. Use a display supplier to customize a column.
      */
+    @Deprecated
     protected Method methodForColumn(final Column column) {
-        for (final String methodPrefix : SimpleDataTables.METHOD_PREFIXES) {
-            try {
-                return this.entityClass.getMethod(methodPrefix + StringUtils.capitalize(column.getSafeName()));
-            } catch (final NoSuchMethodException ignore) {
-            }
-        }
-
-        try {
-            return this.entityClass.getMethod(column.getSafeName());
-        } catch (final NoSuchMethodException ignore) {
-        }
-
-        return null;
+        return EntityAccessors.findGetter(this.entityClass, column.getSafeName());
     }
 
     @Override
-    public FieldBehavior<E, S, C> field(final String fieldName) {
+    public synchronized FieldBehavior<E, S, C> field(final String fieldName) {
+        this.ensureNotFrozen();
         if (!this.fieldsBehavior.containsKey(fieldName)) {
             this.setField(fieldName, new FieldBehavior<>());
         }
@@ -476,15 +1109,17 @@ public abstract class SimpleDataTables<E, S, C, U extends SimpleDataTables<E, S,
     }
 
     @Override
-    public U setField(final String fieldName, final FieldBehavior<E, S, C> fieldBehavior) {
+    public synchronized U setField(final String fieldName, final FieldBehavior<E, S, C> fieldBehavior) {
+        this.ensureNotFrozen();
         this.fieldsBehavior.put(fieldName, fieldBehavior);
 
         return this.asSelf();
     }
 
     @Override
-    public <T> U addConverter(final Converter<T> converter) {
-        this.converters.put(converter.getBackedType(), converter);
+    public synchronized <T> U addConverter(final Converter<T> converter) {
+        this.ensureNotFrozen();
+        this.converters = this.converters.with(converter);
 
         return this.asSelf();
     }
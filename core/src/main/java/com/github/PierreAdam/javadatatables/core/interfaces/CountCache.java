@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.core.interfaces;
+
+import com.github.PierreAdam.javadatatables.core.entities.internal.CountKey;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of the records counts. The counts are indexed by source, context discriminator and search conditions,
+ * the total count of a source being the count without search conditions.
+ * The implementations must be safe to use from any thread.
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public interface CountCache {
+
+    /**
+     * Gets a cached count.
+     *
+     * @param key the key
+     * @return the count or null if it is not cached or expired
+     */
+    Long get(CountKey key);
+
+    /**
+     * Cache a count.
+     *
+     * @param key   the key
+     * @param count the count
+     */
+    void put(CountKey key, long count);
+
+    /**
+     * Gets a cached count or compute and cache it.
+     *
+     * @param key    the key
+     * @param loader the loader
+     * @return the count
+     */
+    default long get(final CountKey key, final LongSupplier loader) {
+        final Long cached = this.get(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final long count = loader.getAsLong();
+        this.put(key, count);
+
+        return count;
+    }
+
+    /**
+     * Invalidate every count of a source, whatever the discriminator.
+     *
+     * @param source the source
+     */
+    void invalidate(String source);
+
+    /**
+     * Invalidate the counts of a source for a given discriminator.
+     *
+     * @param source        the source
+     * @param discriminator the discriminator
+     */
+    void invalidate(String source, Object discriminator);
+
+    /**
+     * Invalidate all the counts.
+     */
+    void invalidateAll();
+}
@@ -24,12 +24,15 @@
 
 package com.github.PierreAdam.javadatatables.core.interfaces;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.PierreAdam.javadatatables.core.converters.Converter;
 import com.github.PierreAdam.javadatatables.core.entities.Parameters;
 import com.github.PierreAdam.javadatatables.core.entities.internal.FieldBehavior;
 import com.github.PierreAdam.javadatatables.core.enumerations.OrderEnum;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -112,6 +115,21 @@ public interface DataTables<E, S, C, U extends DataTables<E, S, C, U>> {
         return this.asSelf();
     }
 
+    /**
+     * The fields dictionary. If set for a given field, the repeated values of the field are rendered from a bounded
+     * dictionary. It is meant for the columns with a low cardinality and turns itself off once more distinct values
+     * than the capacity are seen.
+     *
+     * @param fieldName the field name
+     * @param capacity  the maximum number of distinct values or 0 to disable the dictionary
+     * @return itself
+     */
+    default U setDictionary(final String fieldName, final int capacity) {
+        this.field(fieldName).setDictionary(capacity);
+
+        return this.asSelf();
+    }
+
     /**
      * The global search supplier. If set, the handler will be called when a search not specific to a field is required.
      *
@@ -149,6 +167,55 @@ public interface DataTables<E, S, C, U extends DataTables<E, S, C, U>> {
         return this.getAjaxResult(parameters, null);
     }
 
+    /**
+     * Streams the Ajax result to the given generator. Parameters SHOULD come from a form.
+     * Contrary to {@link #getAjaxResult(Parameters, Object)}, the rows are written as soon as they are rendered.
+     *
+     * @param parameters the parameters
+     * @param context    the context
+     * @param generator  the generator
+     * @throws IOException if the generator fails to write
+     * @see Parameters
+     */
+    void writeAjaxResult(final Parameters parameters, final C context, final JsonGenerator generator) throws IOException;
+
+    /**
+     * Streams the Ajax result to the given generator. Parameters SHOULD come from a form.
+     *
+     * @param parameters the parameters
+     * @param generator  the generator
+     * @throws IOException if the generator fails to write
+     * @see Parameters
+     */
+    default void writeAjaxResult(final Parameters parameters, final JsonGenerator generator) throws IOException {
+        this.writeAjaxResult(parameters, null, generator);
+    }
+
+    /**
+     * Streams the Ajax result to the given output stream as UTF-8 Json. Parameters SHOULD come from a form.
+     * The output stream is flushed but not closed.
+     *
+     * @param parameters   the parameters
+     * @param context      the context
+     * @param outputStream the output stream
+     * @throws IOException if the output stream fails to write
+     * @see Parameters
+     */
+    void writeAjaxResult(final Parameters parameters, final C context, final OutputStream outputStream) throws IOException;
+
+    /**
+     * Streams the Ajax result to the given output stream as UTF-8 Json. Parameters SHOULD come from a form.
+     * The output stream is flushed but not closed.
+     *
+     * @param parameters   the parameters
+     * @param outputStream the output stream
+     * @throws IOException if the output stream fails to write
+     * @see Parameters
+     */
+    default void writeAjaxResult(final Parameters parameters, final OutputStream outputStream) throws IOException {
+        this.writeAjaxResult(parameters, null, outputStream);
+    }
+
     /**
      * Gets the field behavior.
      *
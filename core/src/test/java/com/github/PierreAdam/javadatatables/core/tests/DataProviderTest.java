@@ -25,11 +25,14 @@
 package com.github.PierreAdam.javadatatables.core.tests;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.PierreAdam.javadatatables.core.converters.standards.DateTimeConverter;
 import com.github.PierreAdam.javadatatables.core.entities.Column;
 import com.github.PierreAdam.javadatatables.core.entities.Parameters;
 import com.github.PierreAdam.javadatatables.core.entities.Search;
+import com.github.PierreAdam.javadatatables.core.entities.internal.ValueDictionary;
 import com.github.PierreAdam.javadatatables.core.enumerations.OrderEnum;
+import com.github.PierreAdam.javadatatables.core.exceptions.InitializationException;
 import com.github.PierreAdam.javadatatables.core.mocking.dataprovider.AddressConverter;
 import com.github.PierreAdam.javadatatables.core.mocking.dataprovider.DummyProvider;
 import com.github.PierreAdam.javadatatables.core.mocking.dataprovider.MyDataTable;
@@ -38,10 +41,14 @@ import com.github.PierreAdam.javadatatables.testdata.PersonEntity;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 
+import java.io.ByteArrayOutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -333,4 +340,184 @@ public class DataProviderTest {
         Assertions.assertEquals(1, line.size());
         Assertions.assertTrue(line.get(0).isNull());
     }
+
+    /**
+     * Frozen definition.
+     */
+    @Test
+    @Order(8)
+    public void frozenDefinition() {
+        final Parameters parameters = ParametersHelper.createForNameEntity();
+
+        this.myDataTable.freeze();
+
+        Assertions.assertTrue(this.myDataTable.isFrozen());
+        Assertions.assertThrows(InitializationException.class, () -> this.myDataTable.addConverter(new AddressConverter()));
+        Assertions.assertThrows(InitializationException.class, () -> this.myDataTable.field("firstName"));
+        Assertions.assertThrows(InitializationException.class, () -> this.myDataTable.setGlobalSearchHandler(null));
+
+        final JsonNode ajaxResult = this.myDataTable.getAjaxResult(parameters);
+
+        DataProviderTest.logger.trace("{}", ajaxResult.toPrettyString());
+
+        final JsonNode line = ajaxResult.get("data").get(0);
+        Assertions.assertEquals(parameters.getLength(), ajaxResult.get("data").size());
+        Assertions.assertTrue(line.get(4).asText().startsWith("Hello "));
+        Assertions.assertFalse(line.get(17).isNull());
+    }
+
+    /**
+     * Parallel rendering.
+     */
+    @Test
+    @Order(9)
+    public void parallelRendering() throws Exception {
+        final ForkJoinPool renderingPool = new ForkJoinPool(4);
+
+        try {
+            this.myDataTable.setParallelRendering(renderingPool, 10);
+
+            // The chunks must be reassembled in order.
+            this.order(OrderEnum.ASC, t -> t >= 0);
+
+            final Parameters parameters = ParametersHelper.createForNameEntity().setLength(25);
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            this.myDataTable.writeAjaxResult(parameters, outputStream);
+
+            final JsonNode ajaxResult = new ObjectMapper().readTree(outputStream.toByteArray());
+
+            Assertions.assertEquals(25, ajaxResult.get("data").size());
+            ajaxResult.get("data").forEach(line -> Assertions.assertTrue(line.get(4).asText().startsWith("Hello ")));
+        } finally {
+            renderingPool.shutdown();
+        }
+    }
+
+    /**
+     * Value dictionary.
+     */
+    @Test
+    @Order(10)
+    public void valueDictionary() throws Exception {
+        this.myDataTable.setDictionary("bloodGroup", 16).setDictionary("firstName", 2);
+
+        final Parameters parameters = ParametersHelper.createForNameEntity().setLength(50);
+        final JsonNode ajaxResult = this.myDataTable.getAjaxResult(parameters);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        this.myDataTable.writeAjaxResult(parameters, outputStream);
+
+        final JsonNode data = ajaxResult.get("data");
+
+        final JsonNode writtenData = new ObjectMapper().readTree(outputStream.toByteArray()).get("data");
+
+        Assertions.assertEquals(50, writtenData.size());
+        writtenData.forEach(line -> {
+            Assertions.assertTrue(line.get(2).isTextual());
+            Assertions.assertTrue(line.get(6).isTextual());
+        });
+
+        // The repeated values of a low-cardinality column share the same node.
+        final ValueDictionary bloodGroups = this.myDataTable.field("bloodGroup").getDictionary().orElseThrow(AssertionError::new);
+
+        Assertions.assertTrue(bloodGroups.isEnabled());
+        Assertions.assertTrue(bloodGroups.size() > 0 && bloodGroups.size() <= 8);
+        Assertions.assertSame(bloodGroups.node(data.get(0).get(6).asText()), bloodGroups.node(data.get(0).get(6).asText()));
+
+        // The dictionary of a high-cardinality column turns itself off.
+        final ValueDictionary firstNames = this.myDataTable.field("firstName").getDictionary().orElseThrow(AssertionError::new);
+
+        Assertions.assertFalse(firstNames.isEnabled());
+        Assertions.assertEquals(0, firstNames.size());
+    }
+
+    /**
+     * Compact answer.
+     */
+    @Test
+    @Order(11)
+    public void compactAnswer() throws Exception {
+        this.myDataTable.setDictionary("bloodGroup", 16).setCompactAnswer(true);
+
+        final Parameters parameters = ParametersHelper.createForNameEntity().setLength(50);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        this.myDataTable.writeAjaxResult(parameters, outputStream);
+
+        final JsonNode writtenResult = new ObjectMapper().readTree(outputStream.toByteArray());
+
+        for (final JsonNode ajaxResult : new JsonNode[]{this.myDataTable.getAjaxResult(parameters), writtenResult}) {
+            final JsonNode dictionary = ajaxResult.get("dictionaries").get("6");
+
+            // Only the column having a dictionary is encoded.
+            Assertions.assertEquals(1, ajaxResult.get("dictionaries").size());
+            Assertions.assertTrue(dictionary.size() > 0 && dictionary.size() <= 8);
+            Assertions.assertEquals(50, ajaxResult.get("data").size());
+            ajaxResult.get("data").forEach(line -> {
+                Assertions.assertTrue(line.get(5).isTextual());
+                Assertions.assertTrue(line.get(6).isInt());
+                Assertions.assertTrue(dictionary.get(line.get(6).asInt()).isTextual());
+            });
+        }
+    }
+
+    /**
+     * Row extra data.
+     */
+    @Test
+    @Order(12)
+    public void rowExtraData() throws Exception {
+        this.myDataTable.setRowExtraData(rowExtraData -> rowExtraData
+                .setRowId(entity -> null)
+                .setRowClass(entity -> "person")
+                .setRowData(entity -> null));
+
+        final Parameters parameters = ParametersHelper.createForNameEntity();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        parameters.getColumns().forEach(column -> column.setData(column.getName()));
+        this.myDataTable.writeAjaxResult(parameters, outputStream);
+
+        final JsonNode writtenResult = new ObjectMapper().readTree(outputStream.toByteArray());
+
+        for (final JsonNode ajaxResult : new JsonNode[]{this.myDataTable.getAjaxResult(parameters), writtenResult}) {
+            Assertions.assertEquals(10, ajaxResult.get("data").size());
+            ajaxResult.get("data").forEach(line -> {
+                // The extra data whose function returns null is omitted.
+                Assertions.assertFalse(line.has("DT_RowId"));
+                Assertions.assertFalse(line.has("DT_RowData"));
+                Assertions.assertEquals("person", line.get("DT_RowClass").asText());
+            });
+        }
+    }
+
+    /**
+     * The written answer is flushed once.
+     */
+    @Test
+    @Order(13)
+    public void singleFlush() throws Exception {
+        final AtomicInteger flushes = new AtomicInteger();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+        final Parameters parameters = ParametersHelper.createForNameEntity().setLength(50);
+
+        this.myDataTable.setRowExtraData(rowExtraData -> rowExtraData
+                .setRowData(entity -> Collections.singletonMap("uid", entity.getUid()))
+                .setRowAttr(entity -> Collections.singletonMap("title", entity.getTitle())));
+        parameters.getColumns().forEach(column -> column.setData(column.getName()));
+        this.myDataTable.writeAjaxResult(parameters, outputStream);
+
+        final JsonNode writtenResult = new ObjectMapper().readTree(outputStream.toByteArray());
+
+        Assertions.assertEquals(50, writtenResult.get("data").size());
+        writtenResult.get("data").forEach(line -> Assertions.assertTrue(line.get("DT_RowData").has("uid")));
+        // The answer is flushed once written, then once more when the generator is closed.
+        Assertions.assertTrue(flushes.get() <= 2, "Expected the answer not to be flushed after each value.");
+    }
 }
@@ -24,21 +24,42 @@
 
 package com.github.PierreAdam.javadatatables.core.tests;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.PierreAdam.javadatatables.core.converters.Converter;
+import com.github.PierreAdam.javadatatables.core.converters.ConverterRegistry;
+import com.github.PierreAdam.javadatatables.core.converters.standards.BigDecimalConverter;
+import com.github.PierreAdam.javadatatables.core.converters.standards.BooleanConverter;
+import com.github.PierreAdam.javadatatables.core.converters.standards.DoubleConverter;
+import com.github.PierreAdam.javadatatables.core.converters.standards.EnumConverter;
+import com.github.PierreAdam.javadatatables.core.converters.standards.IntegerConverter;
+import com.github.PierreAdam.javadatatables.core.converters.standards.LongConverter;
+import com.github.PierreAdam.javadatatables.core.converters.standards.StringConverter;
+import com.github.PierreAdam.javadatatables.core.converters.standards.UUIDConverter;
 import com.github.PierreAdam.javadatatables.core.entities.AjaxQueryForm;
 import com.github.PierreAdam.javadatatables.core.entities.Column;
 import com.github.PierreAdam.javadatatables.core.entities.Parameters;
 import com.github.PierreAdam.javadatatables.core.entities.Search;
+import com.github.PierreAdam.javadatatables.core.entities.internal.CountKey;
 import com.github.PierreAdam.javadatatables.core.entities.internal.DataSource;
 import com.github.PierreAdam.javadatatables.core.enumerations.OrderEnum;
+import com.github.PierreAdam.javadatatables.core.implementations.InMemoryCountCache;
+import com.github.PierreAdam.javadatatables.core.interfaces.CountCache;
 import com.github.PierreAdam.javadatatables.core.tools.ResourcesLoader;
+import com.github.PierreAdam.javadatatables.testdata.enums.NumberEnum;
+import com.github.PierreAdam.javadatatables.testdata.enums.SimpleEnum;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * FormEntitiesTest.
@@ -129,6 +150,134 @@ public class EntitiesTest {
         Assertions.assertEquals(80, integerDataSource.getRecordsTotal());
     }
 
+    /**
+     * Validate the converter registry.
+     */
+    @Test
+    @Order(4)
+    public void converterRegistryLogic() {
+        final ConverterRegistry empty = ConverterRegistry.empty();
+        final StringConverter stringConverter = new StringConverter();
+        final EnumConverter enumConverter = new EnumConverter();
+        final ConverterRegistry registry = empty.with(stringConverter).with(enumConverter);
+
+        Assertions.assertNull(empty.resolve(String.class));
+        Assertions.assertEquals(0, empty.getConverters().size());
+        Assertions.assertEquals(2, registry.getVersion());
+        Assertions.assertSame(stringConverter, registry.resolve(String.class));
+        Assertions.assertSame(enumConverter, registry.resolve(SimpleEnum.class));
+        Assertions.assertSame(enumConverter, registry.resolve(SimpleEnum.class));
+        Assertions.assertNull(registry.resolve(Integer.class));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> registry.getConverters().clear());
+    }
+
+    /**
+     * Validate the in memory count cache.
+     */
+    @Test
+    @Order(5)
+    public void countCacheLogic() {
+        final CountCache countCache = new InMemoryCountCache(Duration.ofMinutes(1), 2);
+        final CountKey total = new CountKey("person", "tenant-a", null);
+        final CountKey filtered = new CountKey("person", "tenant-a", "name like '%a%'");
+        final CountKey otherTenant = new CountKey("person", "tenant-b", "");
+
+        Assertions.assertEquals(total, new CountKey("person", "tenant-a", ""));
+        Assertions.assertNull(countCache.get(total));
+        Assertions.assertEquals(100, countCache.get(total, () -> 100));
+        Assertions.assertEquals(100, countCache.get(total, () -> 200));
+
+        countCache.put(filtered, 10);
+        countCache.put(otherTenant, 50);
+        Assertions.assertEquals(2, Arrays.asList(countCache.get(total), countCache.get(filtered), countCache.get(otherTenant))
+                .stream().filter(count -> count != null).count(), "Expected the oldest count to be evicted.");
+
+        countCache.invalidate("person", "tenant-b");
+        Assertions.assertNull(countCache.get(otherTenant));
+
+        countCache.put(otherTenant, 50);
+        countCache.invalidate("person");
+        Assertions.assertNull(countCache.get(filtered));
+        Assertions.assertNull(countCache.get(otherTenant));
+
+        countCache.put(total, 100);
+        countCache.invalidateAll();
+        Assertions.assertNull(countCache.get(total));
+
+        // The counts of a source joined differently are kept apart but invalidated together.
+        final CountKey joined = new CountKey("person", "from person join company", "tenant-a", null);
+
+        Assertions.assertNotEquals(total, joined);
+        countCache.put(total, 100);
+        countCache.put(joined, 80);
+        Assertions.assertEquals(80, countCache.get(joined));
+        countCache.invalidate("person");
+        Assertions.assertNull(countCache.get(joined));
+    }
+
+    /**
+     * Validate that the converters write the same values as their value nodes.
+     */
+    @Test
+    @Order(6)
+    public void converterWriteLogic() throws IOException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final List<Converter<?>> converters = Arrays.asList(new IntegerConverter(), new LongConverter(), new DoubleConverter(),
+                new BooleanConverter(), new BigDecimalConverter(), new UUIDConverter(), new StringConverter(), new EnumConverter());
+        final List<Object> values = Arrays.asList(42, 42L, 4.2, true, new BigDecimal("4.20"), UUID.randomUUID(), "value", SimpleEnum.SUCCESS);
+
+        for (int i = 0; i < converters.size(); i++) {
+            final Converter<?> converter = converters.get(i);
+            final StringWriter writer = new StringWriter();
+
+            try (final JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+                generator.writeStartArray();
+                converter.write(values.get(i), null, generator);
+                converter.write(null, null, generator);
+                generator.writeEndArray();
+            }
+
+            final String expected = String.format("[%s,null]", objectMapper.writeValueAsString(converter.asValueNode(values.get(i), null)));
+
+            Assertions.assertEquals(expected, writer.toString(), converter.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Enum converter logic.
+     */
+    @Test
+    @Order(7)
+    public void enumConverterLogic() throws IOException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final EnumConverter converter = new EnumConverter();
+
+        for (final NumberEnum value : NumberEnum.values()) {
+            final JsonNode node = converter.asValueNode(value, null);
+
+            Assertions.assertTrue(node.isNumber());
+            Assertions.assertEquals(value.toString(), node.asText());
+            Assertions.assertSame(node, converter.asValueNode(value, null));
+        }
+        for (final SimpleEnum value : SimpleEnum.values()) {
+            final JsonNode node = converter.asValueNode(value, null);
+
+            Assertions.assertTrue(node.isTextual());
+            Assertions.assertEquals(value.name(), node.asText());
+        }
+
+        final StringWriter writer = new StringWriter();
+
+        try (final JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.writeStartArray();
+            converter.write(NumberEnum.BLOCKED, null, generator);
+            converter.write(SimpleEnum.IN_PROGRESS, null, generator);
+            generator.writeEndArray();
+        }
+
+        Assertions.assertEquals("[2,\"IN_PROGRESS\"]", writer.toString());
+    }
+
     /**
      * Load simple json.
      */
@@ -25,13 +25,51 @@
 package com.github.PierreAdam.javadatatables.jooq;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.PierreAdam.javadatatables.core.entities.Column;
+import com.github.PierreAdam.javadatatables.core.entities.Parameters;
+import com.github.PierreAdam.javadatatables.core.entities.internal.CountKey;
 import com.github.PierreAdam.javadatatables.core.entities.internal.DataSource;
+import com.github.PierreAdam.javadatatables.core.entities.internal.DataTablesDefinition;
+import com.github.PierreAdam.javadatatables.core.entities.internal.FieldBehavior;
+import com.github.PierreAdam.javadatatables.core.entities.internal.StreamingDataSource;
+import com.github.PierreAdam.javadatatables.core.implementations.InMemoryCountCache;
 import com.github.PierreAdam.javadatatables.core.implementations.SimpleDataTables;
+import com.github.PierreAdam.javadatatables.core.interfaces.CountCache;
+import com.github.PierreAdam.javadatatables.jooq.enumerations.CountMode;
+import com.github.PierreAdam.javadatatables.jooq.enumerations.CountStrategy;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.RecordMapper;
 import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.Table;
+import org.jooq.impl.DefaultConnectionProvider;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * JooqDataTables.
@@ -42,11 +80,66 @@ import java.util.List;
  */
 public class AdvancedJooqDataTables<E, C extends JooqDataTablesContext> extends SimpleDataTables<E, JooqProvider, C, AdvancedJooqDataTables<E, C>> {
 
+    /**
+     * The minimum number of streamed entities given to the batch computation at once.
+     */
+    private static final int MINIMUM_CHUNK_SIZE = 100;
+
     /**
      * The Dsl context.
      */
     protected DSLContext dslContext;
 
+    /**
+     * How the records counts are retrieved.
+     */
+    protected CountMode countMode;
+
+    /**
+     * The executor running the page and count queries concurrently. Null if they run one after another.
+     */
+    protected Executor queryExecutor;
+
+    /**
+     * Whether the records counts are exact, cached or estimated.
+     */
+    protected CountStrategy countStrategy;
+
+    /**
+     * The number of rows below which the estimated counts switch to exact counts.
+     */
+    protected long estimateThreshold;
+
+    /**
+     * The number of rows sampled to estimate the filtered count.
+     */
+    protected int estimateSampleSize;
+
+    /**
+     * The cache of the exact counts. Null until the cached exact count strategy is set or a cache is given.
+     */
+    protected CountCache countCache;
+
+    /**
+     * The context discriminator of the cached counts.
+     */
+    protected Function<C, Object> countCacheDiscriminator;
+
+    /**
+     * The JDBC fetch size of the streamed pages. Null if the pages are not streamed.
+     */
+    protected Integer streamingFetchSize;
+
+    /**
+     * The computation of a whole page of entities. Null if the entities are computed one by one.
+     */
+    protected BiConsumer<List<E>, C> batchComputation;
+
+    /**
+     * The fields selected only when their column is requested, indexed by column name.
+     */
+    protected Map<String, Field<?>> columnFields;
+
     /**
      * Instantiates a new Jooq data tables.
      *
@@ -57,6 +150,280 @@ public class AdvancedJooqDataTables<E, C extends JooqDataTablesContext> extends
     public AdvancedJooqDataTables(final Class<E> entityClass, final ObjectMapper objectMapper, final DSLContext dslContext) {
         super(entityClass, objectMapper, () -> new JooqProvider(dslContext));
         this.dslContext = dslContext;
+        this.countMode = CountMode.SEPARATE;
+        this.queryExecutor = null;
+        this.countStrategy = CountStrategy.EXACT;
+        this.estimateThreshold = 100_000;
+        this.estimateSampleSize = 10_000;
+        this.countCache = null;
+        this.countCacheDiscriminator = null;
+        this.streamingFetchSize = null;
+        this.batchComputation = AdvancedJooqDataTables.staticBatchComputation(entityClass);
+        this.columnFields = new LinkedHashMap<>();
+    }
+
+    /**
+     * Find the static {@code computeAll(List, JooqDataTablesContext)} method of the entity class.
+     *
+     * @param <E>         the Entity type
+     * @param <C>         the Context type
+     * @param entityClass the entity class
+     * @return the batch computation or null if the entity class doesn't declare it
+     */
+    private static <E, C> BiConsumer<List<E>, C> staticBatchComputation(final Class<E> entityClass) {
+        for (final Method method : entityClass.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) && method.getName().equals("computeAll") && method.getParameterCount() == 2
+                    && method.getParameterTypes()[0].isAssignableFrom(List.class)
+                    && JooqDataTablesContext.class.isAssignableFrom(method.getParameterTypes()[1])) {
+                final MethodHandle handle;
+                try {
+                    handle = MethodHandles.publicLookup().unreflect(method)
+                            .asType(MethodType.methodType(void.class, List.class, Object.class));
+                } catch (final IllegalAccessException ignore) {
+                    return null;
+                }
+
+                return (entities, context) -> {
+                    try {
+                        handle.invokeExact(entities, (Object) context);
+                    } catch (final RuntimeException | Error e) {
+                        throw e;
+                    } catch (final Throwable t) {
+                        throw new UndeclaredThrowableException(t);
+                    }
+                };
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Sets how the records counts are retrieved.
+     *
+     * @param countMode the count mode
+     * @return itself
+     * @see CountMode
+     */
+    public AdvancedJooqDataTables<E, C> setCountMode(final CountMode countMode) {
+        this.ensureNotFrozen();
+        this.countMode = countMode;
+
+        return this;
+    }
+
+    /**
+     * Run the page and count queries concurrently on the given executor, or one after another if null.
+     * Each query needs its own connection, the dsl context must be backed by a connection pool
+     * (a {@code DataSource} or a pooling {@code ConnectionProvider}).
+     *
+     * @param queryExecutor the query executor
+     * @return itself
+     * @see QueryExecutors#defaultExecutor()
+     */
+    public AdvancedJooqDataTables<E, C> setQueryExecutor(final Executor queryExecutor) {
+        this.ensureNotFrozen();
+        if (queryExecutor != null && this.dslContext.configuration().connectionProvider() instanceof DefaultConnectionProvider) {
+            this.logger.warn("The dsl context is backed by a single connection, the concurrent queries will share it.");
+        }
+        this.queryExecutor = queryExecutor;
+
+        return this;
+    }
+
+    /**
+     * Sets whether the records counts are exact, cached or estimated.
+     * The estimated total count requires a count table on the provider, see {@link JooqProvider#setCountTable(Table)}.
+     * The cached exact strategy keeps the counts in memory for one minute unless a count cache is set.
+     *
+     * @param countStrategy the count strategy
+     * @return itself
+     * @see CountStrategy
+     * @see #setCountCache(CountCache)
+     */
+    public AdvancedJooqDataTables<E, C> setCountStrategy(final CountStrategy countStrategy) {
+        this.ensureNotFrozen();
+        this.countStrategy = countStrategy;
+        if (countStrategy == CountStrategy.CACHED_EXACT && this.countCache == null) {
+            this.countCache = new InMemoryCountCache(Duration.ofMinutes(1), 1024);
+        }
+
+        return this;
+    }
+
+    /**
+     * Sets the number of rows below which the estimated counts switch to exact counts.
+     *
+     * @param estimateThreshold the estimate threshold
+     * @return itself
+     */
+    public AdvancedJooqDataTables<E, C> setEstimateThreshold(final long estimateThreshold) {
+        this.ensureNotFrozen();
+        this.estimateThreshold = estimateThreshold;
+
+        return this;
+    }
+
+    /**
+     * Sets the number of rows sampled to estimate the filtered count. The sampled rows are the first ones returned
+     * by the database, not random ones, see {@link JooqProvider#getSampledFilteredRatio(int)} for the bias.
+     *
+     * @param estimateSampleSize the estimate sample size
+     * @return itself
+     */
+    public AdvancedJooqDataTables<E, C> setEstimateSampleSize(final int estimateSampleSize) {
+        this.ensureNotFrozen();
+        this.estimateSampleSize = estimateSampleSize;
+
+        return this;
+    }
+
+    /**
+     * Sets the cache of the exact counts, used by {@link CountStrategy#CACHED_EXACT}. The cache may be shared with
+     * other DataTables, the counts are indexed by source. By default, the counts are kept in memory for one minute.
+     *
+     * @param countCache the count cache
+     * @return itself
+     * @see JooqProvider#getCountSource()
+     */
+    public AdvancedJooqDataTables<E, C> setCountCache(final CountCache countCache) {
+        this.ensureNotFrozen();
+        this.countCache = countCache;
+
+        return this;
+    }
+
+    /**
+     * Sets the context discriminator of the cached counts. It must be set if the counted rows depend on the context,
+     * for example when the rows are restricted to the tenant of the context by the provider initialization.
+     *
+     * @param countCacheDiscriminator the count cache discriminator
+     * @return itself
+     */
+    public AdvancedJooqDataTables<E, C> setCountCacheDiscriminator(final Function<C, Object> countCacheDiscriminator) {
+        this.ensureNotFrozen();
+        this.countCacheDiscriminator = countCacheDiscriminator;
+
+        return this;
+    }
+
+    /**
+     * Gets the cache of the exact counts.
+     *
+     * @return the count cache or null if the cached exact count strategy is not used
+     */
+    public CountCache getCountCache() {
+        return this.countCache;
+    }
+
+    /**
+     * Stream the pages written directly to an output with a lazy cursor: the records are mapped and rendered as
+     * they are fetched, the page is never held in memory. The counts are retrieved before the cursor is opened,
+     * the window count mode is not used. A fetch size of 0 uses the driver default.
+     *
+     * @param streamingFetchSize the JDBC fetch size or null to retrieve the pages at once
+     * @return itself
+     */
+    public AdvancedJooqDataTables<E, C> setStreamingFetchSize(final Integer streamingFetchSize) {
+        this.ensureNotFrozen();
+        this.streamingFetchSize = streamingFetchSize;
+
+        return this;
+    }
+
+    /**
+     * Sets the computation of a whole page of entities, called instead of {@link ComputableEntity#compute} so the
+     * dependencies of the page can be retrieved at once. By default, the static
+     * {@code computeAll(List, JooqDataTablesContext)} method of the entity class is used if it is declared.
+     * The streamed pages are computed by chunks of the streaming fetch size. Only the entities with a requested
+     * computed column are given, see {@link ComputableEntity#computedColumns()}.
+     *
+     * @param batchComputation the batch computation or null to compute the entities one by one
+     * @return itself
+     */
+    public AdvancedJooqDataTables<E, C> setBatchComputation(final BiConsumer<List<E>, C> batchComputation) {
+        this.ensureNotFrozen();
+        this.batchComputation = batchComputation;
+
+        return this;
+    }
+
+    /**
+     * Sets the field of a column. The field is only selected if the column is requested or is a dependency of a
+     * requested column, see {@link FieldBehavior#setDependencies(String...)}. The fields needed whatever the
+     * requested columns, like the ones used by the row extra data, must stay in the initial select. The columns are
+     * only narrowed if the initial select has an explicit select list, an implicit asterisk selects every column.
+     *
+     * @param columnName the column name
+     * @param field      the field
+     * @return itself
+     */
+    public AdvancedJooqDataTables<E, C> setColumnField(final String columnName, final Field<?> field) {
+        this.ensureNotFrozen();
+        this.columnFields.put(columnName, field);
+
+        return this;
+    }
+
+    /**
+     * Apply the pagination, the search and the order of the parameters on the provider. The requested columns are
+     * kept by the provider and only their fields are projected if column fields are set.
+     *
+     * @param provider   the provider
+     * @param context    the context
+     * @param parameters the parameters
+     * @param definition the definition
+     */
+    @Override
+    protected void prepareProvider(final JooqProvider provider, final C context, final Parameters parameters,
+                                   final DataTablesDefinition<E, JooqProvider, C> definition) {
+        final Set<String> requestedColumns = new HashSet<>();
+
+        for (final Column column : parameters.getSafeColumns()) {
+            if (column != null && column.getSafeName() != null) {
+                requestedColumns.add(column.getSafeName());
+            }
+        }
+        provider.setRequestedColumns(Collections.unmodifiableSet(requestedColumns));
+
+        this.projectColumns(provider, requestedColumns, definition);
+
+        super.prepareProvider(provider, context, parameters, definition);
+    }
+
+    /**
+     * Add the fields of the requested columns and of their dependencies to the projection of the provider.
+     *
+     * @param provider         the provider
+     * @param requestedColumns the requested columns
+     * @param definition       the definition
+     */
+    private void projectColumns(final JooqProvider provider, final Set<String> requestedColumns,
+                                final DataTablesDefinition<E, JooqProvider, C> definition) {
+        if (this.columnFields.isEmpty()) {
+            return;
+        }
+
+        final Set<String> neededColumns = new HashSet<>();
+        final Deque<String> pendingColumns = new ArrayDeque<>(requestedColumns);
+
+        while (!pendingColumns.isEmpty()) {
+            final String columnName = pendingColumns.pop();
+
+            if (neededColumns.add(columnName)) {
+                final FieldBehavior<E, JooqProvider, C> fieldBehavior = definition.getField(columnName);
+
+                if (fieldBehavior != null) {
+                    pendingColumns.addAll(fieldBehavior.getDependencies());
+                }
+            }
+        }
+
+        this.columnFields.forEach((columnName, field) -> {
+            if (neededColumns.contains(columnName)) {
+                provider.addProjection(field);
+            }
+        });
     }
 
     /**
@@ -74,6 +441,21 @@ public class AdvancedJooqDataTables<E, C extends JooqDataTablesContext> extends
         return this;
     }
 
+    /**
+     * Sets the key of the last row of the previous page. Only used if the provider is configured for seek pagination.
+     *
+     * @param jooqProvider the jooq provider
+     * @param seek         the seek key
+     * @return itself
+     * @see JooqProvider#setSeekTieBreaker(Field)
+     */
+    @Override
+    protected AdvancedJooqDataTables<E, C> setSeek(final JooqProvider jooqProvider, final List<String> seek) {
+        jooqProvider.setSeekKey(seek);
+
+        return this;
+    }
+
     /**
      * Data source from provider data source.
      *
@@ -83,13 +465,387 @@ public class AdvancedJooqDataTables<E, C extends JooqDataTablesContext> extends
      */
     @Override
     protected DataSource<E> dataSourceFromProvider(final JooqProvider jooqProvider, final C context) {
-        final Result<? extends Record> fetch = jooqProvider.getAsForgedQuery().fetch();
-        final List<E> entities = fetch.into(this.entityClass);
+        final QueryBatch batch = new QueryBatch(this.queryExecutor);
+        final FetchedPage page;
 
-        if (ComputableEntity.class.isAssignableFrom(this.entityClass)) {
-            entities.forEach(e -> ((ComputableEntity) e).compute(context));
+        switch (this.countStrategy) {
+            case ESTIMATED: {
+                final Future<Result<? extends Record>> records = batch.submit(jooqProvider.getPageQuery(), ResultQuery::fetch);
+                final Future<ResultCounts> counts = batch.submit(() -> this.estimateCounts(jooqProvider));
+
+                page = new FetchedPage(batch.get(records), batch.get(counts));
+                break;
+            }
+            case CACHED_EXACT:
+                page = this.fetchWithCachedCounts(batch, jooqProvider, context);
+                break;
+            case EXACT:
+            default:
+                page = this.fetchWithExactCounts(batch, jooqProvider);
+                break;
         }
 
-        return new DataSource<>(jooqProvider.getTotalUnfilteredResultCount(), jooqProvider.getTotalFilteredResultCount(), entities);
+        final List<E> entities = page.records.map(EntityRecordMapper.of(this.entityClass, page.records.fields()));
+
+        this.computeEntities(entities, this.requestContext(jooqProvider, context));
+
+        return new DataSource<>(page.counts.getTotal(), page.counts.getFiltered(), entities)
+                .setSeek(jooqProvider.getSeekKey(page.records));
+    }
+
+    /**
+     * Streaming data source from provider. The records are fetched with a lazy cursor if a streaming fetch size is
+     * set, the cursor is closed with the data source.
+     *
+     * @param jooqProvider the jooq provider
+     * @param context      the context
+     * @return the streaming data source
+     */
+    @Override
+    protected StreamingDataSource<E> streamingDataSourceFromProvider(final JooqProvider jooqProvider, final C context) {
+        if (this.streamingFetchSize == null) {
+            return super.streamingDataSourceFromProvider(jooqProvider, context);
+        }
+
+        final ResultCounts counts = this.fetchCounts(jooqProvider, context);
+        final Cursor<? extends Record> cursor = jooqProvider.getPageQuery().fetchSize(this.streamingFetchSize).fetchLazy();
+        final int chunkSize = this.batchComputation == null ? 1 : Math.max(this.streamingFetchSize, AdvancedJooqDataTables.MINIMUM_CHUNK_SIZE);
+        final CursorEntities entities;
+
+        try {
+            // The mapper is built from the fields of the cursor, which may only be known once the query is executed.
+            entities = new CursorEntities(cursor, this.requestContext(jooqProvider, context), chunkSize);
+        } catch (final RuntimeException | Error e) {
+            cursor.close();
+            throw e;
+        }
+
+        return new StreamingDataSource<>(counts.getTotal(), counts.getFiltered(), entities,
+                () -> entities.lastRecord == null ? null : jooqProvider.getSeekKey(entities.lastRecord), cursor::close);
+    }
+
+    /**
+     * Retrieve the counts only, as configured by the count strategy. The window count mode falls back to separate
+     * counts.
+     *
+     * @param jooqProvider the jooq provider
+     * @param context      the context
+     * @return the result counts
+     */
+    private ResultCounts fetchCounts(final JooqProvider jooqProvider, final C context) {
+        final boolean filtered = jooqProvider.hasConditions();
+
+        switch (this.countStrategy) {
+            case ESTIMATED:
+                return this.estimateCounts(jooqProvider);
+            case CACHED_EXACT: {
+                final Object discriminator = this.countCacheDiscriminator == null ? null : this.countCacheDiscriminator.apply(context);
+                final long total = this.countCache.get(jooqProvider.getTotalCountKey(discriminator), jooqProvider::getTotalUnfilteredResultCount);
+
+                return new ResultCounts(total, this.countCache.get(jooqProvider.getFilteredCountKey(discriminator),
+                        () -> filtered ? jooqProvider.getTotalFilteredResultCount() : total));
+            }
+            case EXACT:
+            default:
+                if (filtered && this.countMode == CountMode.COMBINED) {
+                    return jooqProvider.getTotalAndFilteredResultCounts();
+                } else {
+                    final long total = jooqProvider.getTotalUnfilteredResultCount();
+
+                    return new ResultCounts(total, filtered ? jooqProvider.getTotalFilteredResultCount() : total);
+                }
+        }
+    }
+
+    /**
+     * Gets the context of the computations of a request: a copy of the context holding the columns requested by the
+     * client. The context given to the request is not modified.
+     *
+     * @param jooqProvider the jooq provider
+     * @param context      the context
+     * @return the context of the request
+     */
+    @SuppressWarnings("unchecked")
+    private C requestContext(final JooqProvider jooqProvider, final C context) {
+        if (context == null || jooqProvider.getRequestedColumns() == null) {
+            return context;
+        }
+
+        // The copy keeps the class of the context.
+        return (C) context.withRequestedColumns(jooqProvider.getRequestedColumns());
+    }
+
+    /**
+     * Compute the entities with the batch computation if any, one by one otherwise. The entities are not computed
+     * if none of their computed columns is requested.
+     *
+     * @param entities the entities
+     * @param context  the context of the request
+     */
+    private void computeEntities(final List<E> entities, final C context) {
+        if (!ComputableEntity.class.isAssignableFrom(this.entityClass)) {
+            if (this.batchComputation != null) {
+                this.batchComputation.accept(entities, context);
+            }
+            return;
+        }
+
+        final List<E> requested = entities.stream()
+                .filter(entity -> AdvancedJooqDataTables.isComputationRequested((ComputableEntity) entity, context))
+                .collect(Collectors.toList());
+
+        if (this.batchComputation != null) {
+            if (!requested.isEmpty()) {
+                this.batchComputation.accept(requested, context);
+            }
+        } else {
+            requested.forEach(entity -> ((ComputableEntity) entity).compute(context));
+        }
+    }
+
+    /**
+     * Whether one of the computed columns of an entity is requested.
+     *
+     * @param entity  the entity
+     * @param context the context of the request
+     * @return true if the entity must be computed
+     */
+    private static boolean isComputationRequested(final ComputableEntity entity, final JooqDataTablesContext context) {
+        final Set<String> computedColumns = entity.computedColumns();
+
+        return context == null || computedColumns == null || computedColumns.stream().anyMatch(context::isRequested);
+    }
+
+    /**
+     * Fetch the page and the exact counts as configured by the count mode. If no search conditions have been added,
+     * the filtered count is the total count and a single count is retrieved.
+     *
+     * @param batch        the batch
+     * @param jooqProvider the jooq provider
+     * @return the fetched page
+     */
+    private FetchedPage fetchWithExactCounts(final QueryBatch batch, final JooqProvider jooqProvider) {
+        final boolean filtered = jooqProvider.hasConditions();
+
+        switch (this.countMode) {
+            case WINDOW: {
+                final Future<Result<? extends Record>> records = batch.submit(jooqProvider.getPageQueryWithWindowCount(), ResultQuery::fetch);
+                final Future<Long> total = filtered ? batch.submit(jooqProvider.getTotalUnfilteredCountQuery(), JooqProvider::fetchCount) : null;
+                final Result<? extends Record> fetch = batch.get(records);
+                // When seeking, the window only covers the rows following the key.
+                final long filteredCount = fetch.isEmpty() || jooqProvider.isSeeking()
+                        ? jooqProvider.getTotalFilteredResultCount()
+                        : jooqProvider.getWindowCount(fetch.get(0));
+
+                return new FetchedPage(fetch, new ResultCounts(total == null ? filteredCount : batch.get(total), filteredCount));
+            }
+            case COMBINED: {
+                final Future<Result<? extends Record>> records = batch.submit(jooqProvider.getPageQuery(), ResultQuery::fetch);
+                final Future<ResultCounts> combined = batch.submit(jooqProvider.getTotalAndFilteredCountsQuery(), JooqProvider::fetchCounts);
+
+                return new FetchedPage(batch.get(records), batch.get(combined));
+            }
+            case SEPARATE:
+            default: {
+                final Future<Result<? extends Record>> records = batch.submit(jooqProvider.getPageQuery(), ResultQuery::fetch);
+                final Future<Long> total = batch.submit(jooqProvider.getTotalUnfilteredCountQuery(), JooqProvider::fetchCount);
+                final Future<Long> filteredTotal = filtered ? batch.submit(jooqProvider.getTotalFilteredCountQuery(), JooqProvider::fetchCount) : total;
+
+                return new FetchedPage(batch.get(records), new ResultCounts(batch.get(total), batch.get(filteredTotal)));
+            }
+        }
+    }
+
+    /**
+     * Fetch the page and use the cached counts. The missing counts are computed and cached.
+     *
+     * @param batch        the batch
+     * @param jooqProvider the jooq provider
+     * @param context      the context
+     * @return the fetched page
+     */
+    private FetchedPage fetchWithCachedCounts(final QueryBatch batch, final JooqProvider jooqProvider, final C context) {
+        final Object discriminator = this.countCacheDiscriminator == null ? null : this.countCacheDiscriminator.apply(context);
+        final CountKey totalKey = jooqProvider.getTotalCountKey(discriminator);
+        final CountKey filteredKey = jooqProvider.getFilteredCountKey(discriminator);
+        final Long cachedTotal = this.countCache.get(totalKey);
+        final Long cachedFiltered = this.countCache.get(filteredKey);
+
+        if (cachedTotal == null && cachedFiltered == null) {
+            final FetchedPage page = this.fetchWithExactCounts(batch, jooqProvider);
+
+            this.countCache.put(totalKey, page.counts.getTotal());
+            this.countCache.put(filteredKey, page.counts.getFiltered());
+
+            return page;
+        }
+
+        final Future<Result<? extends Record>> records = batch.submit(jooqProvider.getPageQuery(), ResultQuery::fetch);
+        final Future<Long> total = cachedTotal == null ? batch.submit(jooqProvider.getTotalUnfilteredCountQuery(), JooqProvider::fetchCount) : null;
+        final Future<Long> filtered = cachedFiltered == null ? batch.submit(jooqProvider.getTotalFilteredCountQuery(), JooqProvider::fetchCount) : null;
+        final Result<? extends Record> fetch = batch.get(records);
+        final long totalCount = total == null ? cachedTotal : this.cacheCount(totalKey, batch.get(total));
+        final long filteredCount = filtered == null ? cachedFiltered : this.cacheCount(filteredKey, batch.get(filtered));
+
+        return new FetchedPage(fetch, new ResultCounts(totalCount, filteredCount));
+    }
+
+    /**
+     * Cache a count.
+     *
+     * @param key   the key
+     * @param count the count
+     * @return the count
+     */
+    private long cacheCount(final CountKey key, final long count) {
+        this.countCache.put(key, count);
+
+        return count;
+    }
+
+    /**
+     * Estimate the counts. The total count comes from the catalog statistics, the filtered count is counted up to
+     * the estimate threshold then extrapolated from a sample. Exact counts are used below the estimate threshold.
+     *
+     * @param jooqProvider the jooq provider
+     * @return the result counts
+     */
+    private ResultCounts estimateCounts(final JooqProvider jooqProvider) {
+        final Long estimate = jooqProvider.getEstimatedUnfilteredResultCount();
+
+        if (!jooqProvider.hasConditions()) {
+            final long total = estimate == null || estimate < this.estimateThreshold
+                    ? jooqProvider.getTotalUnfilteredResultCount()
+                    : estimate;
+
+            return new ResultCounts(total, total);
+        }
+
+        if (estimate == null || estimate < this.estimateThreshold) {
+            return this.countMode == CountMode.COMBINED
+                    ? jooqProvider.getTotalAndFilteredResultCounts()
+                    : new ResultCounts(jooqProvider.getTotalUnfilteredResultCount(), jooqProvider.getTotalFilteredResultCount());
+        }
+
+        final long bounded = jooqProvider.getBoundedFilteredResultCount(this.estimateThreshold + 1);
+
+        if (bounded <= this.estimateThreshold) {
+            return new ResultCounts(Math.max(estimate, bounded), bounded);
+        }
+
+        final long filtered = Math.max(bounded, Math.round(estimate * jooqProvider.getSampledFilteredRatio(this.estimateSampleSize)));
+
+        return new ResultCounts(Math.max(estimate, filtered), filtered);
+    }
+
+    /**
+     * The entities mapped from a cursor. The records are mapped and computed by chunks, one record at a time if there
+     * is no batch computation.
+     */
+    private final class CursorEntities implements Iterator<E> {
+
+        /**
+         * The Cursor.
+         */
+        private final Cursor<? extends Record> cursor;
+
+        /**
+         * The Context.
+         */
+        private final C context;
+
+        /**
+         * The Mapper.
+         */
+        private final RecordMapper<Record, E> mapper;
+
+        /**
+         * The size of the chunks.
+         */
+        private final int chunkSize;
+
+        /**
+         * The current chunk.
+         */
+        private List<E> chunk;
+
+        /**
+         * The index of the next entity in the current chunk.
+         */
+        private int index;
+
+        /**
+         * The last fetched record. Null if no record has been fetched yet.
+         */
+        private Record lastRecord;
+
+        /**
+         * Instantiates a new Cursor entities.
+         *
+         * @param cursor    the cursor
+         * @param context   the context
+         * @param chunkSize the size of the chunks
+         */
+        private CursorEntities(final Cursor<? extends Record> cursor, final C context, final int chunkSize) {
+            this.cursor = cursor;
+            this.context = context;
+            this.mapper = EntityRecordMapper.of(AdvancedJooqDataTables.this.entityClass, cursor.fields());
+            this.chunkSize = chunkSize;
+            this.chunk = Collections.emptyList();
+            this.index = 0;
+            this.lastRecord = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.chunk.size() || this.cursor.hasNext();
+        }
+
+        @Override
+        public E next() {
+            if (this.index >= this.chunk.size()) {
+                this.chunk = new ArrayList<>(this.chunkSize);
+                this.index = 0;
+
+                while (this.chunk.size() < this.chunkSize && this.cursor.hasNext()) {
+                    this.lastRecord = this.cursor.fetchNext();
+                    this.chunk.add(this.mapper.map(this.lastRecord));
+                }
+
+                if (this.chunk.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                AdvancedJooqDataTables.this.computeEntities(this.chunk, this.context);
+            }
+
+            return this.chunk.get(this.index++);
+        }
+    }
+
+    /**
+     * A fetched page and its counts.
+     */
+    private static final class FetchedPage {
+
+        /**
+         * The Records.
+         */
+        private final Result<? extends Record> records;
+
+        /**
+         * The Counts.
+         */
+        private final ResultCounts counts;
+
+        /**
+         * Instantiates a new Fetched page.
+         *
+         * @param records the records
+         * @param counts  the counts
+         */
+        private FetchedPage(final Result<? extends Record> records, final ResultCounts counts) {
+            this.records = records;
+            this.counts = counts;
+        }
     }
 }
@@ -24,6 +24,8 @@
 
 package com.github.PierreAdam.javadatatables.jooq;
 
+import java.util.Set;
+
 /**
  * ComputableEntity.
  *
@@ -38,4 +40,14 @@ public interface ComputableEntity {
      * @param context the context
      */
     void compute(final JooqDataTablesContext context);
+
+    /**
+     * The columns derived by {@link #compute(JooqDataTablesContext)}. The computation is skipped if none of them
+     * is requested by the client.
+     *
+     * @return the computed columns or null if the entity must always be computed
+     */
+    default Set<String> computedColumns() {
+        return null;
+    }
 }
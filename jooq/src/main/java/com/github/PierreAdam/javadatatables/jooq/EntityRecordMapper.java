@@ -0,0 +1,447 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.jooq;
+
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.exception.MappingException;
+
+import java.beans.ConstructorProperties;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Record mapper precompiled for an entity class and a list of fields.
+ * The columns are matched once to the setters or the public fields of the entity, by exact name, then ignoring
+ * the case, then converting the snake case to camel case. The entities without a public no-arg constructor are
+ * built with the public constructor whose parameters are named after the columns, through
+ * {@link ConstructorProperties} or the parameter names compiled with {@code -parameters} (as for Java records).
+ * If the entity can't be bound this way or is annotated with the JPA {@code Column}, the mapping is delegated to
+ * the jOOQ default record mapper.
+ * The mappers are cached per entity class and list of fields.
+ *
+ * @param <E> the Entity type
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public final class EntityRecordMapper<E> implements RecordMapper<Record, E> {
+
+    /**
+     * The mappers, indexed by entity class then by list of fields.
+     */
+    private static final ClassValue<ConcurrentMap<String, RecordMapper<Record, ?>>> MAPPERS = new ClassValue<ConcurrentMap<String, RecordMapper<Record, ?>>>() {
+        @Override
+        protected ConcurrentMap<String, RecordMapper<Record, ?>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * The generic type of a setter once adapted.
+     */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * The JPA annotations naming the columns, honored by the jOOQ default record mapper.
+     */
+    private static final List<String> JPA_COLUMNS = Arrays.asList("javax.persistence.Column", "jakarta.persistence.Column");
+
+    /**
+     * The entity class.
+     */
+    private final Class<E> entityClass;
+
+    /**
+     * The constructor, taking an array of arguments.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * The index of the column of each constructor argument, -1 if the argument is not mapped.
+     */
+    private final int[] argumentColumns;
+
+    /**
+     * The type of each constructor argument.
+     */
+    private final Class<?>[] argumentTypes;
+
+    /**
+     * The setters, indexed by column. Null if the column is not mapped.
+     */
+    private final MethodHandle[] setters;
+
+    /**
+     * The type expected by each setter.
+     */
+    private final Class<?>[] setterTypes;
+
+    /**
+     * Whether each setter expects a primitive value.
+     */
+    private final boolean[] primitiveSetters;
+
+    /**
+     * Instantiates a new Entity record mapper.
+     *
+     * @param entityClass      the entity class
+     * @param constructor      the constructor
+     * @param argumentColumns  the argument columns
+     * @param argumentTypes    the argument types
+     * @param setters          the setters
+     * @param setterTypes      the setter types
+     * @param primitiveSetters the primitive setters
+     */
+    private EntityRecordMapper(final Class<E> entityClass, final MethodHandle constructor, final int[] argumentColumns,
+                               final Class<?>[] argumentTypes, final MethodHandle[] setters, final Class<?>[] setterTypes,
+                               final boolean[] primitiveSetters) {
+        this.entityClass = entityClass;
+        this.constructor = constructor;
+        this.argumentColumns = argumentColumns;
+        this.argumentTypes = argumentTypes;
+        this.setters = setters;
+        this.setterTypes = setterTypes;
+        this.primitiveSetters = primitiveSetters;
+    }
+
+    /**
+     * Gets the mapper of an entity class for the given fields.
+     *
+     * @param <E>         the Entity type
+     * @param entityClass the entity class
+     * @param fields      the fields of the records
+     * @return the record mapper
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> RecordMapper<Record, E> of(final Class<E> entityClass, final Field<?>[] fields) {
+        final StringBuilder key = new StringBuilder();
+
+        for (final Field<?> field : fields) {
+            key.append(field.getName()).append(':').append(field.getType().getName()).append(';');
+        }
+
+        return (RecordMapper<Record, E>) EntityRecordMapper.MAPPERS.get(entityClass)
+                .computeIfAbsent(key.toString(), ignore -> EntityRecordMapper.compile(entityClass, fields));
+    }
+
+    /**
+     * Compile the mapper of an entity class.
+     *
+     * @param <E>         the Entity type
+     * @param entityClass the entity class
+     * @param fields      the fields
+     * @return the record mapper
+     */
+    private static <E> RecordMapper<Record, E> compile(final Class<E> entityClass, final Field<?>[] fields) {
+        try {
+            if (!Modifier.isPublic(entityClass.getModifiers()) || Modifier.isAbstract(entityClass.getModifiers())
+                    || EntityRecordMapper.hasJpaColumns(entityClass)) {
+                return record -> record.into(entityClass);
+            }
+
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            try {
+                final Constructor<E> noArgs = entityClass.getConstructor();
+
+                return EntityRecordMapper.compileSetters(lookup, lookup.unreflectConstructor(noArgs), entityClass, fields);
+            } catch (final NoSuchMethodException ignore) {
+            }
+
+            for (final Constructor<?> candidate : entityClass.getConstructors()) {
+                final String[] names = EntityRecordMapper.parameterNames(candidate);
+
+                if (names != null || candidate.getParameterCount() == fields.length) {
+                    final RecordMapper<Record, E> mapper = EntityRecordMapper.compileConstructor(lookup, entityClass, candidate, names, fields);
+
+                    if (mapper != null) {
+                        return mapper;
+                    }
+                }
+            }
+        } catch (final IllegalAccessException ignore) {
+        }
+
+        return record -> record.into(entityClass);
+    }
+
+    /**
+     * Compile a mapper creating the entity with its no-arg constructor then calling the setters.
+     *
+     * @param <E>         the Entity type
+     * @param lookup      the lookup
+     * @param noArgs      the no-arg constructor
+     * @param entityClass the entity class
+     * @param fields      the fields
+     * @return the record mapper
+     * @throws IllegalAccessException if a setter is not accessible
+     */
+    private static <E> RecordMapper<Record, E> compileSetters(final MethodHandles.Lookup lookup, final MethodHandle noArgs,
+                                                              final Class<E> entityClass, final Field<?>[] fields) throws IllegalAccessException {
+        final Map<String, MethodHandle> properties = new HashMap<>();
+        final Map<String, Class<?>> propertyTypes = new HashMap<>();
+
+        for (final java.lang.reflect.Field field : entityClass.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                properties.put(field.getName(), lookup.unreflectSetter(field));
+                propertyTypes.put(field.getName(), field.getType());
+            }
+        }
+        for (final Method method : entityClass.getMethods()) {
+            if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 1
+                    && method.getName().length() > 3 && method.getName().startsWith("set")) {
+                final String property = Character.toLowerCase(method.getName().charAt(3)) + method.getName().substring(4);
+
+                properties.put(property, lookup.unreflect(method));
+                propertyTypes.put(property, method.getParameterTypes()[0]);
+            }
+        }
+
+        final MethodHandle[] setters = new MethodHandle[fields.length];
+        final Class<?>[] setterTypes = new Class<?>[fields.length];
+        final boolean[] primitiveSetters = new boolean[fields.length];
+
+        for (int i = 0; i < fields.length; i++) {
+            final String property = EntityRecordMapper.match(fields[i].getName(), properties.keySet());
+
+            if (property != null) {
+                setters[i] = properties.get(property).asType(EntityRecordMapper.SETTER_TYPE);
+                setterTypes[i] = EntityRecordMapper.boxed(propertyTypes.get(property));
+                primitiveSetters[i] = propertyTypes.get(property).isPrimitive();
+            }
+        }
+
+        return new EntityRecordMapper<>(entityClass, noArgs.asType(MethodType.methodType(Object.class)), null, null,
+                setters, setterTypes, primitiveSetters);
+    }
+
+    /**
+     * Compile a mapper creating the entity with a constructor taking the values of the columns.
+     *
+     * @param <E>         the Entity type
+     * @param lookup      the lookup
+     * @param entityClass the entity class
+     * @param constructor the constructor
+     * @param names       the names of the parameters or null to map the columns by position
+     * @param fields      the fields
+     * @return the record mapper or null if none of the parameters is named after a column
+     * @throws IllegalAccessException if the constructor is not accessible
+     */
+    private static <E> RecordMapper<Record, E> compileConstructor(final MethodHandles.Lookup lookup, final Class<E> entityClass,
+                                                                  final Constructor<?> constructor, final String[] names,
+                                                                  final Field<?>[] fields) throws IllegalAccessException {
+        final int count = constructor.getParameterCount();
+        final int[] argumentColumns = new int[count];
+        final Class<?>[] argumentTypes = new Class<?>[count];
+        final List<String> columns = new ArrayList<>();
+        boolean bound = names == null;
+
+        for (final Field<?> field : fields) {
+            columns.add(field.getName());
+        }
+
+        for (int i = 0; i < count; i++) {
+            argumentTypes[i] = constructor.getParameterTypes()[i];
+            if (names == null) {
+                argumentColumns[i] = i;
+            } else {
+                final String column = EntityRecordMapper.match(names[i], columns);
+                argumentColumns[i] = column == null ? -1 : columns.indexOf(column);
+                bound |= column != null;
+            }
+        }
+
+        if (!bound) {
+            return null;
+        }
+
+        final MethodHandle handle = lookup.unreflectConstructor(constructor)
+                .asSpreader(Object[].class, count)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return new EntityRecordMapper<>(entityClass, handle, argumentColumns, argumentTypes, null, null, null);
+    }
+
+    /**
+     * Whether the fields or the methods of an entity class are annotated with the JPA {@code Column}. The annotation
+     * is looked up by name, JPA may not be on the classpath.
+     *
+     * @param entityClass the entity class
+     * @return true if a JPA column is declared
+     */
+    private static boolean hasJpaColumns(final Class<?> entityClass) {
+        final List<AnnotatedElement> elements = new ArrayList<>(Arrays.asList(entityClass.getMethods()));
+
+        for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            elements.addAll(Arrays.asList(type.getDeclaredFields()));
+        }
+        for (final AnnotatedElement element : elements) {
+            for (final Annotation annotation : element.getAnnotations()) {
+                if (EntityRecordMapper.JPA_COLUMNS.contains(annotation.annotationType().getName())) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the names of the parameters of a constructor.
+     *
+     * @param constructor the constructor
+     * @return the names or null if they are not available
+     */
+    private static String[] parameterNames(final Constructor<?> constructor) {
+        final ConstructorProperties constructorProperties = constructor.getAnnotation(ConstructorProperties.class);
+
+        if (constructorProperties != null && constructorProperties.value().length == constructor.getParameterCount()) {
+            return constructorProperties.value();
+        }
+
+        final Parameter[] parameters = constructor.getParameters();
+        final String[] names = new String[parameters.length];
+
+        for (int i = 0; i < parameters.length; i++) {
+            if (!parameters[i].isNamePresent()) {
+                return null;
+            }
+            names[i] = parameters[i].getName();
+        }
+
+        return names.length == 0 ? null : names;
+    }
+
+    /**
+     * Find the candidate matching a name: exact match, then ignoring the case, then ignoring the case and the
+     * underscores.
+     *
+     * @param name       the name
+     * @param candidates the candidates
+     * @return the matching candidate or null
+     */
+    private static String match(final String name, final Iterable<String> candidates) {
+        String ignoringCase = null;
+        String camelCase = null;
+        final String normalized = name.replace("_", "").toLowerCase(Locale.ENGLISH);
+
+        for (final String candidate : candidates) {
+            if (candidate.equals(name)) {
+                return candidate;
+            }
+            if (ignoringCase == null && candidate.equalsIgnoreCase(name)) {
+                ignoringCase = candidate;
+            }
+            if (camelCase == null && candidate.replace("_", "").toLowerCase(Locale.ENGLISH).equals(normalized)) {
+                camelCase = candidate;
+            }
+        }
+
+        return ignoringCase != null ? ignoringCase : camelCase;
+    }
+
+    /**
+     * Gets the boxed type of a primitive type.
+     *
+     * @param type the type
+     * @return the boxed type
+     */
+    private static Class<?> boxed(final Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    /**
+     * Gets the value of a column in the expected type. The value is only converted if needed.
+     *
+     * @param record the record
+     * @param index  the index of the column
+     * @param type   the type
+     * @return the value
+     */
+    private static Object value(final Record record, final int index, final Class<?> type) {
+        final Object value = record.get(index);
+
+        return value == null || type.isInstance(value) ? value : record.get(index, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E map(final Record record) {
+        try {
+            if (this.setters == null) {
+                final Object[] arguments = new Object[this.argumentColumns.length];
+
+                for (int i = 0; i < arguments.length; i++) {
+                    final Class<?> type = this.argumentTypes[i];
+                    final Object value = this.argumentColumns[i] < 0
+                            ? null
+                            : EntityRecordMapper.value(record, this.argumentColumns[i], EntityRecordMapper.boxed(type));
+
+                    arguments[i] = value == null && type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : value;
+                }
+
+                return (E) this.constructor.invokeExact(arguments);
+            }
+
+            final Object entity = this.constructor.invokeExact();
+
+            for (int i = 0; i < this.setters.length; i++) {
+                final MethodHandle setter = this.setters[i];
+
+                if (setter != null) {
+                    final Object value = EntityRecordMapper.value(record, i, this.setterTypes[i]);
+
+                    // Primitive properties keep their default value.
+                    if (value != null || !this.primitiveSetters[i]) {
+                        setter.invokeExact(entity, value);
+                    }
+                }
+            }
+
+            return (E) entity;
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new MappingException("An error occurred when mapping record to " + this.entityClass, t);
+        }
+    }
+}
@@ -24,11 +24,15 @@
 
 package com.github.PierreAdam.javadatatables.jooq;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.PierreAdam.javadatatables.core.entities.Parameters;
 import org.jooq.DSLContext;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * JooqDataTables.
  *
@@ -53,4 +57,14 @@ public class JooqDataTables<E> extends AdvancedJooqDataTables<E, JooqDataTablesC
     public JsonNode getAjaxResult(final Parameters parameters) {
         return super.getAjaxResult(parameters, new JooqDataTablesContext(this.dslContext));
     }
+
+    @Override
+    public void writeAjaxResult(final Parameters parameters, final JsonGenerator generator) throws IOException {
+        super.writeAjaxResult(parameters, new JooqDataTablesContext(this.dslContext), generator);
+    }
+
+    @Override
+    public void writeAjaxResult(final Parameters parameters, final OutputStream outputStream) throws IOException {
+        super.writeAjaxResult(parameters, new JooqDataTablesContext(this.dslContext), outputStream);
+    }
 }
@@ -24,10 +24,12 @@
 
 package com.github.PierreAdam.javadatatables.jooq;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.Setter;
 import org.jooq.DSLContext;
 
+import java.util.Set;
+
 /**
  * JooqDataTablesContext.
  *
@@ -35,11 +37,54 @@ import org.jooq.DSLContext;
  * @since 25.03.10
  */
 @Getter
-@AllArgsConstructor
-public class JooqDataTablesContext {
+public class JooqDataTablesContext implements Cloneable {
 
     /**
      * The Dsl context.
      */
     private final DSLContext dslContext;
+
+    /**
+     * The columns requested by the client. Null if unknown.
+     */
+    @Setter
+    private Set<String> requestedColumns;
+
+    /**
+     * Instantiates a new Jooq data tables context.
+     *
+     * @param dslContext the dsl context
+     */
+    public JooqDataTablesContext(final DSLContext dslContext) {
+        this.dslContext = dslContext;
+        this.requestedColumns = null;
+    }
+
+    /**
+     * Check if a column is requested by the client. All the columns are considered requested if they are unknown.
+     *
+     * @param columnName the column name
+     * @return true if the column is requested
+     */
+    public boolean isRequested(final String columnName) {
+        return this.requestedColumns == null || this.requestedColumns.contains(columnName);
+    }
+
+    /**
+     * Gets a shallow copy of the context with the given requested columns. The copy keeps the class of the context,
+     * the context itself is left untouched as it may be shared by concurrent requests.
+     *
+     * @param requestedColumns the requested columns
+     * @return the copy of the context
+     */
+    public JooqDataTablesContext withRequestedColumns(final Set<String> requestedColumns) {
+        try {
+            final JooqDataTablesContext copy = (JooqDataTablesContext) this.clone();
+
+            copy.requestedColumns = requestedColumns;
+            return copy;
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException("The context can't be copied.", e);
+        }
+    }
 }
@@ -24,16 +24,22 @@
 
 package com.github.PierreAdam.javadatatables.jooq;
 
+import com.github.PierreAdam.javadatatables.core.entities.internal.CountKey;
 import com.github.PierreAdam.javadatatables.core.enumerations.OrderEnum;
 import lombok.Getter;
 import lombok.Setter;
 import org.jooq.*;
 import org.jooq.Record;
+import org.jooq.exception.DataTypeException;
 import org.jooq.impl.DSL;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * The type Jooq provider.
@@ -43,6 +49,31 @@ import java.util.function.Function;
  */
 public class JooqProvider {
 
+    /**
+     * The name of the field holding the filtered count when the query is forged with a window count.
+     */
+    public static final String WINDOW_COUNT_FIELD_NAME = "dt_window_count";
+
+    /**
+     * The prefix of the fields holding the seek key when the query is forged with seek pagination.
+     */
+    public static final String SEEK_FIELD_PREFIX = "dt_seek_";
+
+    /**
+     * The name of the field holding the row number when the seek boundaries are retrieved.
+     */
+    private static final String ROW_NUMBER_FIELD_NAME = "dt_row_number";
+
+    /**
+     * The name of the derived table holding the keys of the page when the query is forged with a deferred join.
+     */
+    private static final String DEFERRED_KEYS_TABLE_NAME = "dt_keys";
+
+    /**
+     * The name of the field holding the key of a row when the query is forged with a deferred join.
+     */
+    private static final String DEFERRED_KEY_FIELD_NAME = "dt_key";
+
     /**
      * The Dsl context.
      */
@@ -60,12 +91,26 @@ public class JooqProvider {
      */
     private final List<OrderField<?>> sorting;
 
+    /**
+     * The fields of the sorting, in the same order. Only filled by {@link #addSort(Field, OrderEnum)}.
+     */
+    private final List<Field<?>> sortingFields;
+
+    /**
+     * The fields selected in addition to the initial select.
+     */
+    private final List<Field<?>> projection;
+
     /**
      * The Initial select.
      */
-    @Setter
     private Function<DSLContext, SelectSelectStep<? extends Record>> initialSelect;
 
+    /**
+     * Whether the initial select is an implicit {@code select *}. Null until known.
+     */
+    private Boolean implicitAsterisk;
+
     /**
      * The Initial from.
      */
@@ -96,6 +141,44 @@ public class JooqProvider {
     @Setter
     private int numberOfElement;
 
+    /**
+     * The unique field appended to the sorting to enable the seek pagination.
+     */
+    @Setter
+    private Field<?> seekTieBreaker;
+
+    /**
+     * The key of the last row of the previous page: the start of the page it leads to, the fingerprint of the sorted
+     * query then the values of the seek fields.
+     */
+    @Setter
+    private List<String> seekKey;
+
+    /**
+     * The cache of the seek boundaries, used to turn the start offset into a seek.
+     */
+    @Setter
+    private SeekBoundaryCache seekBoundaryCache;
+
+    /**
+     * The unique key of the rows. If set, the keys of the page are selected first and the rows are looked up by key.
+     */
+    @Setter
+    private Field<?> deferredJoinKey;
+
+    /**
+     * The table whose catalog statistics estimate the total count.
+     */
+    @Setter
+    private Table<?> countTable;
+
+    /**
+     * The columns requested by the client. Null if unknown.
+     */
+    @Getter
+    @Setter
+    private Set<String> requestedColumns;
+
     /**
      * Instantiates a new Jooq provider.
      *
@@ -106,11 +189,32 @@ public class JooqProvider {
         this.startElement = 0;
         this.numberOfElement = 10;
         this.initialSelect = null;
+        this.implicitAsterisk = null;
         this.initialFrom = null;
         this.initialCondition = null;
         this.groupBy = null;
+        this.seekTieBreaker = null;
+        this.seekKey = null;
+        this.seekBoundaryCache = null;
+        this.deferredJoinKey = null;
+        this.countTable = null;
+        this.requestedColumns = null;
         this.conditions = new ArrayList<>();
         this.sorting = new ArrayList<>();
+        this.sortingFields = new ArrayList<>();
+        this.projection = new ArrayList<>();
+    }
+
+    /**
+     * Sets the initial select.
+     *
+     * @param initialSelect the initial select
+     * @return the jooq provider
+     */
+    public JooqProvider setInitialSelect(final Function<DSLContext, SelectSelectStep<? extends Record>> initialSelect) {
+        this.initialSelect = initialSelect;
+        this.implicitAsterisk = null;
+        return this;
     }
 
     /**
@@ -148,34 +252,502 @@ public class JooqProvider {
         } else {
             this.addSort(field.asc());
         }
+        this.sortingFields.add(field);
 
         return this;
     }
 
     /**
-     * Gets as forged query.
+     * Add a field to select in addition to the fields of the initial select. The projection only narrows an
+     * explicit select list: with an implicit asterisk, like {@code select()}, the field is selected after the
+     * asterisk.
+     *
+     * @param field the field
+     * @return the jooq provider
+     */
+    public JooqProvider addProjection(final Field<?> field) {
+        this.projection.add(field);
+        return this;
+    }
+
+    /**
+     * Gets as forged query. If the initial select is an implicit {@code select *}, the fields of the forged query
+     * only hold the appended fields, use {@link #getPageQuery()} to fetch it.
      *
      * @return the as forged query
      */
     public SelectForUpdateStep<? extends Record> getAsForgedQuery() {
+        return this.forgeQuery(this.getProjectedSelect(), true);
+    }
+
+    /**
+     * Gets the initial select with the additional projection fields. An implicit {@code select *} is made explicit:
+     * appending a field to it would replace the asterisk.
+     *
+     * @return the select
+     */
+    private SelectSelectStep<? extends Record> getProjectedSelect() {
+        final SelectSelectStep<? extends Record> select = this.initialSelect.apply(this.dslContext);
+
+        if (this.isImplicitAsterisk()) {
+            select.select(DSL.asterisk());
+        }
+
+        return this.appendFields(select, this.projection);
+    }
+
+    /**
+     * Gets as forged query with an additional {@code COUNT(*) OVER()} field named {@link #WINDOW_COUNT_FIELD_NAME}.
+     * Each record of the page holds the total filtered count, the page and the filtered count are retrieved in a
+     * single statement. The dialect must support window functions.
+     *
+     * @return the as forged query
+     */
+    public SelectForUpdateStep<? extends Record> getAsForgedQueryWithWindowCount() {
+        return this.forgeQuery(this.appendFields(this.getProjectedSelect(),
+                Collections.singletonList(DSL.count().over().as(JooqProvider.WINDOW_COUNT_FIELD_NAME))), false);
+    }
+
+    /**
+     * Append fields to a select.
+     *
+     * @param select the select
+     * @param fields the fields to append
+     * @return the select
+     */
+    private SelectSelectStep<? extends Record> appendFields(final SelectSelectStep<? extends Record> select,
+                                                          final List<? extends SelectFieldOrAsterisk> fields) {
+        return fields.isEmpty() ? select : select.select(fields);
+    }
+
+    /**
+     * Gets the page query. With an implicit asterisk, the fields of the records are read from the result set.
+     *
+     * @return the page query
+     * @see #getAsForgedQuery()
+     */
+    public ResultQuery<? extends Record> getPageQuery() {
+        if (this.isImplicitAsterisk()) {
+            return this.withResultSetFields(this.getAsForgedQuery());
+        }
+
+        return this.getAsForgedQuery();
+    }
+
+    /**
+     * Gets the page query with an additional {@code COUNT(*) OVER()} field. With an implicit asterisk, the fields of
+     * the records are read from the result set.
+     *
+     * @return the page query
+     * @see #getAsForgedQueryWithWindowCount()
+     */
+    public ResultQuery<? extends Record> getPageQueryWithWindowCount() {
+        if (this.isImplicitAsterisk()) {
+            return this.withResultSetFields(this.getAsForgedQueryWithWindowCount());
+        }
+
+        return this.getAsForgedQueryWithWindowCount();
+    }
+
+    /**
+     * Whether the initial select doesn't have any field, like {@code select()}, and is an implicit {@code select *}.
+     * It is computed once, until the initial select changes.
+     *
+     * @return true if the initial select is an implicit asterisk
+     */
+    private boolean isImplicitAsterisk() {
+        if (this.implicitAsterisk == null) {
+            // The select list of an empty select can't be told apart from an explicit asterisk, the rendered sql can.
+            this.implicitAsterisk = this.initialSelect.apply(this.dslContext).equals(this.dslContext.select());
+        }
+
+        return this.implicitAsterisk;
+    }
+
+    /**
+     * Replace the query by its sql and its bind values. jOOQ can't resolve the asterisk of the tables it doesn't
+     * know: once fields are appended to an implicit asterisk, the fields of the records must be read from the result
+     * set instead of the query.
+     *
+     * @param query the forged query
+     * @return the query to execute
+     */
+    private ResultQuery<? extends Record> withResultSetFields(final Select<? extends Record> query) {
+        return this.dslContext.resultQuery(this.dslContext.render(query), query.getBindValues().toArray());
+    }
+
+    /**
+     * Gets the filtered count from a record fetched with {@link #getAsForgedQueryWithWindowCount()}.
+     *
+     * @param record the record
+     * @return the total filtered result count
+     */
+    public long getWindowCount(final Record record) {
+        final Long count = record.get(JooqProvider.WINDOW_COUNT_FIELD_NAME, Long.class);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * Whether the query is forged with seek pagination. A tie-breaker must be set and every sort must have been
+     * added with {@link #addSort(Field, OrderEnum)}.
+     *
+     * @return true if the seek pagination is used
+     */
+    public boolean isSeekPagination() {
+        return this.seekTieBreaker != null && this.sortingFields.size() == this.sorting.size();
+    }
+
+    /**
+     * Whether the page may be retrieved by seeking a key, either the key of the previous page or a cached boundary.
+     *
+     * @return true if the page may be retrieved by seeking a key
+     */
+    public boolean isSeeking() {
+        return this.isSeekPagination() && (this.hasSeekKey()
+                || this.seekBoundaryCache != null && this.startElement >= this.seekBoundaryCache.getInterval());
+    }
+
+    /**
+     * Whether the key of the previous page is set and usable.
+     *
+     * @return true if the page starts right after the key of the previous page
+     */
+    private boolean hasSeekKey() {
+        return this.getSeekKeyValues(this.getSeekFields()) != null;
+    }
+
+    /**
+     * Gets the values of the key of the previous page. The key is only usable if it leads to the start element and
+     * was produced by the same sorted query, a key sent for another page, sort or search falls back to the start
+     * offset.
+     *
+     * @param seekFields the seek fields
+     * @return the values or null if the key is not usable
+     */
+    private Object[] getSeekKeyValues(final List<Field<?>> seekFields) {
+        if (this.seekKey == null
+                || this.seekKey.size() != seekFields.size() + 2
+                || !String.valueOf(this.startElement).equals(this.seekKey.get(0))
+                || !this.getSeekFingerprint().equals(this.seekKey.get(1))) {
+            return null;
+        }
+
+        return this.toSeekValues(seekFields, this.seekKey.subList(2, this.seekKey.size()));
+    }
+
+    /**
+     * Gets the fields of the seek key, the sorting fields followed by the tie-breaker.
+     *
+     * @return the seek fields
+     */
+    private List<Field<?>> getSeekFields() {
+        final List<Field<?>> seekFields = new ArrayList<>(this.sortingFields);
+        seekFields.add(this.seekTieBreaker);
+        return seekFields;
+    }
+
+    /**
+     * Gets the sorting including the tie-breaker.
+     *
+     * @return the seek sorting
+     */
+    private List<OrderField<?>> getSeekSorting() {
+        final List<OrderField<?>> seekSorting = new ArrayList<>(this.sorting);
+        seekSorting.add(this.seekTieBreaker.asc());
+        return seekSorting;
+    }
+
+    /**
+     * Alias the seek fields to read them back from the records.
+     *
+     * @param seekFields the seek fields
+     * @return the aliased seek fields
+     */
+    private static List<Field<?>> aliasSeekFields(final List<Field<?>> seekFields) {
+        final List<Field<?>> seekKeyFields = new ArrayList<>();
+
+        for (int i = 0; i < seekFields.size(); i++) {
+            seekKeyFields.add(seekFields.get(i).as(JooqProvider.SEEK_FIELD_PREFIX + i));
+        }
+
+        return seekKeyFields;
+    }
+
+    /**
+     * Gets the fingerprint of the sorted query, identifying the source, the search conditions and the order of the
+     * rows a seek key belongs to.
+     *
+     * @return the fingerprint
+     */
+    private String getSeekFingerprint() {
+        final List<Field<?>> seekFields = this.getSeekFields();
+        final String sortedQuery = this.dslContext.renderInlined(
+                this.sortedKeyQuery(JooqProvider.aliasSeekFields(seekFields), this.getSeekSorting()));
+
+        return Integer.toHexString(sortedQuery.hashCode());
+    }
+
+    /**
+     * Gets the key of the last record of a page fetched with seek pagination.
+     *
+     * @param result the result
+     * @return the seek key or null if the page is empty, the seek pagination is not used or the key contains nulls
+     */
+    public List<String> getSeekKey(final Result<? extends Record> result) {
+        if (!this.isSeekPagination() || result.isEmpty()) {
+            return null;
+        }
+
+        // Null values can't be sought, the next page will use the start offset.
+        return this.readSeekKey(result.get(result.size() - 1));
+    }
+
+    /**
+     * Gets the key of the last record of a page fetched with seek pagination.
+     *
+     * @param lastRecord the last record of the page
+     * @return the seek key or null if the seek pagination is not used or the key contains nulls
+     */
+    public List<String> getSeekKey(final Record lastRecord) {
+        return this.isSeekPagination() ? this.readSeekKey(lastRecord) : null;
+    }
+
+    /**
+     * Read the seek key of the last record of the page. The key leads to the next page and holds the fingerprint of
+     * the sorted query.
+     *
+     * @param record the record
+     * @return the seek key or null if all the rows are requested or the values contain nulls
+     */
+    private List<String> readSeekKey(final Record record) {
+        final List<String> values = this.readSeekValues(record);
+
+        if (values == null || this.numberOfElement < 0) {
+            return null;
+        }
+
+        final List<String> key = new ArrayList<>();
+        key.add(String.valueOf(this.startElement + this.numberOfElement));
+        key.add(this.getSeekFingerprint());
+        key.addAll(values);
+
+        return key;
+    }
+
+    /**
+     * Read the values of the seek fields of a record.
+     *
+     * @param record the record
+     * @return the values or null if they contain nulls
+     */
+    private List<String> readSeekValues(final Record record) {
+        final List<String> key = new ArrayList<>();
+
+        for (int i = 0; i <= this.sortingFields.size(); i++) {
+            final String value = record.get(JooqProvider.SEEK_FIELD_PREFIX + i, String.class);
+
+            if (value == null) {
+                return null;
+            }
+            key.add(value);
+        }
+
+        return key;
+    }
+
+    /**
+     * Convert a seek key to the values of the seek fields.
+     *
+     * @param seekFields the seek fields
+     * @param key        the values of the seek key
+     * @return the values or null if one of them can't be converted
+     */
+    private Object[] toSeekValues(final List<Field<?>> seekFields, final List<String> key) {
+        final Object[] values = new Object[seekFields.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            try {
+                values[i] = seekFields.get(i).getDataType().convert(key.get(i));
+            } catch (final DataTypeException e) {
+                return null;
+            }
+            if (values[i] == null) {
+                return null;
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Retrieve the key of every {@code interval}th row of the sorted query, up to the given number of boundaries.
+     * Only the rows before the last boundary are numbered.
+     *
+     * @param seekKeyFields the aliased seek fields
+     * @param seekSorting   the sorting including the tie-breaker
+     * @param interval      the interval
+     * @param count         the number of boundaries
+     * @return the boundaries
+     */
+    private List<List<String>> fetchSeekBoundaries(final List<Field<?>> seekKeyFields, final List<OrderField<?>> seekSorting,
+                                                   final int interval, final int count) {
+        final List<SelectFieldOrAsterisk> fields = new ArrayList<>(seekKeyFields);
+        fields.add(DSL.rowNumber().over().orderBy(seekSorting).as(JooqProvider.ROW_NUMBER_FIELD_NAME));
+
         final SelectConditionStep<? extends Record> where = this.initialFrom
-                .apply(this.initialSelect.apply(this.dslContext))
+                .apply(this.dslContext.select(fields))
+                .where(this.getWhereCondition());
+        final Table<? extends Record> numbered = (this.groupBy != null ? where.groupBy(this.groupBy) : where)
+                .orderBy(seekSorting)
+                .limit((int) Math.min((long) count * interval, Integer.MAX_VALUE))
+                .asTable("dt_numbered");
+        final Field<Long> rowNumber = DSL.field(DSL.name("dt_numbered", JooqProvider.ROW_NUMBER_FIELD_NAME), Long.class);
+        final List<List<String>> boundaries = new ArrayList<>();
+
+        for (final Record record : this.dslContext.select(numbered.fields())
+                .from(numbered)
+                .where(rowNumber.mod(interval).eq(0L))
+                .orderBy(rowNumber)
+                .fetch()) {
+            boundaries.add(this.readSeekValues(record));
+        }
+
+        return boundaries;
+    }
+
+    /**
+     * Forge the query from the given select.
+     *
+     * @param select     the select
+     * @param deferrable whether the query may use a deferred join
+     * @return the forged query
+     */
+    private SelectForUpdateStep<? extends Record> forgeQuery(final SelectSelectStep<? extends Record> select, final boolean deferrable) {
+        final boolean seekPagination = this.isSeekPagination();
+        final List<Field<?>> seekFields = seekPagination ? this.getSeekFields() : Collections.emptyList();
+        final List<OrderField<?>> seekSorting = seekPagination ? this.getSeekSorting() : Collections.emptyList();
+        final List<Field<?>> seekKeyFields = JooqProvider.aliasSeekFields(seekFields);
+
+        if (deferrable && this.isDeferredJoin()) {
+            // The offset skips the narrow keys only, the wide rows of the page are then looked up by key.
+            final Table<? extends Record> keys = this.initialFrom
+                    .apply(this.dslContext.select(this.deferredJoinKey.as(JooqProvider.DEFERRED_KEY_FIELD_NAME)))
+                    .where(this.getWhereCondition())
+                    .orderBy(this.sorting)
+                    .limit(this.getLimit())
+                    .offset(this.startElement)
+                    .asTable(JooqProvider.DEFERRED_KEYS_TABLE_NAME);
+
+            return this.initialFrom
+                    .apply(select)
+                    .where(JooqProvider.inKeys(this.deferredJoinKey, keys))
+                    .orderBy(this.sorting);
+        }
+
+        final SelectConditionStep<? extends Record> where = this.initialFrom
+                .apply(seekPagination ? this.appendFields(select, seekKeyFields) : select)
                 .where(this.getWhereCondition());
         final SelectHavingStep<? extends Record> postGroupBy = this.groupBy != null ? where.groupBy(this.groupBy) : where;
 
-        return postGroupBy
-                .orderBy(this.sorting)
-                .limit(this.numberOfElement)
+        if (!seekPagination) {
+            return postGroupBy
+                    .orderBy(this.sorting)
+                    .limit(this.getLimit())
+                    .offset(this.startElement);
+        }
+
+        final SelectSeekStepN<? extends Record> ordered = postGroupBy.orderBy(seekSorting);
+
+        final Object[] seekValues = this.getSeekKeyValues(seekFields);
+
+        if (seekValues != null) {
+            return ordered.seek(seekValues).limit(this.getLimit());
+        }
+
+        if (this.seekBoundaryCache != null && this.startElement >= this.seekBoundaryCache.getInterval()) {
+            // Seek the nearest usable boundary before the start element then skip the remaining rows.
+            final int interval = this.seekBoundaryCache.getInterval();
+            final String sortedQuery = this.dslContext.renderInlined(this.sortedKeyQuery(seekKeyFields, seekSorting));
+            final List<List<String>> boundaries = this.seekBoundaryCache.get(sortedQuery, this.startElement / interval,
+                    count -> this.fetchSeekBoundaries(seekKeyFields, seekSorting, interval, count));
+
+            for (int block = Math.min(this.startElement / interval, boundaries.size()); block > 0; block--) {
+                final List<String> boundary = boundaries.get(block - 1);
+                final Object[] boundaryValues = boundary == null ? null : this.toSeekValues(seekFields, boundary);
+
+                if (boundaryValues != null) {
+                    final SelectForUpdateStep<? extends Record> query = ordered
+                            .seek(boundaryValues)
+                            .limit(this.getLimit());
+
+                    // The dsl doesn't allow an offset after a seek, it is set on the underlying query.
+                    query.getQuery().addLimit(this.startElement - block * interval, this.getLimit());
+
+                    return query;
+                }
+            }
+        }
+
+        return ordered
+                .limit(this.getLimit())
                 .offset(this.startElement);
     }
 
+    /**
+     * Whether the page query uses a deferred join: a deferred join key is set and the query is not grouped.
+     * The seek pagination doesn't need it, the rows before the page are not read.
+     *
+     * @return true if the page query uses a deferred join
+     */
+    public boolean isDeferredJoin() {
+        return this.deferredJoinKey != null && this.groupBy == null && !this.isSeekPagination();
+    }
+
+    /**
+     * Gets the condition matching the rows whose key is one of the keys of the derived table.
+     *
+     * @param <T>  the type of the key
+     * @param key  the key
+     * @param keys the derived table of the keys
+     * @return the condition
+     */
+    private static <T> Condition inKeys(final Field<T> key, final Table<? extends Record> keys) {
+        return key.in(DSL.select(DSL.field(DSL.name(JooqProvider.DEFERRED_KEYS_TABLE_NAME, JooqProvider.DEFERRED_KEY_FIELD_NAME), key.getDataType()))
+                .from(keys));
+    }
+
+    /**
+     * Gets the number of rows of the page. A negative number of elements requests all the rows.
+     *
+     * @return the limit
+     */
+    private int getLimit() {
+        return this.numberOfElement < 0 ? Integer.MAX_VALUE : this.numberOfElement;
+    }
+
+    /**
+     * Gets the query selecting the seek keys of every row in order. Its inlined sql identifies the source, the
+     * search conditions and the order of the rows.
+     *
+     * @param seekKeyFields the aliased seek fields
+     * @param seekSorting   the sorting including the tie-breaker
+     * @return the sorted query
+     */
+    private Select<? extends Record> sortedKeyQuery(final List<Field<?>> seekKeyFields, final List<OrderField<?>> seekSorting) {
+        final SelectConditionStep<? extends Record> where = this.initialFrom
+                .apply(this.dslContext.select(seekKeyFields))
+                .where(this.getWhereCondition());
+
+        return (this.groupBy != null ? where.groupBy(this.groupBy) : where).orderBy(seekSorting);
+    }
+
     /**
      * Gets result.
      *
      * @return the result
      */
     public List<? extends Record> getResult() {
-        return this.getAsForgedQuery().fetch();
+        return this.getPageQuery().fetch();
     }
 
     /**
@@ -184,12 +756,19 @@ public class JooqProvider {
      * @return the total unfiltered result count
      */
     public long getTotalUnfilteredResultCount() {
-        final Field<Integer> countField = DSL.field("count", Integer.class);
-        final Integer count = this.initialFrom
-                .apply(this.dslContext.select(DSL.count().as(countField)))
-                .where(this.getWhereInitialCondition())
-                .fetchOne(countField);
-        return count == null ? 0L : count;
+        return JooqProvider.fetchCount(this.getTotalUnfilteredCountQuery());
+    }
+
+    /**
+     * Gets the query of the total unfiltered result count.
+     *
+     * @return the count query
+     * @see #fetchCount(ResultQuery)
+     */
+    public ResultQuery<? extends Record> getTotalUnfilteredCountQuery() {
+        return this.initialFrom
+                .apply(this.dslContext.select(DSL.count()))
+                .where(this.getWhereInitialCondition());
     }
 
     /**
@@ -198,14 +777,210 @@ public class JooqProvider {
      * @return the total filtered result count
      */
     public long getTotalFilteredResultCount() {
-        final Field<Integer> countField = DSL.field("count", Integer.class);
-        final Integer count = this.initialFrom
-                .apply(this.dslContext.select(DSL.count().as(countField)))
+        return JooqProvider.fetchCount(this.getTotalFilteredCountQuery());
+    }
+
+    /**
+     * Gets the query of the total filtered result count.
+     *
+     * @return the count query
+     * @see #fetchCount(ResultQuery)
+     */
+    public ResultQuery<? extends Record> getTotalFilteredCountQuery() {
+        return this.initialFrom
+                .apply(this.dslContext.select(DSL.count()))
+                .where(this.getWhereCondition());
+    }
+
+    /**
+     * Fetch a count query.
+     *
+     * @param countQuery the count query
+     * @return the count
+     */
+    public static long fetchCount(final ResultQuery<? extends Record> countQuery) {
+        final Record record = countQuery.fetchOne();
+        final Long count = record == null ? null : record.get(0, Long.class);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * Gets the total and filtered counts with a single aggregate query over the initial condition.
+     * The filtered count uses {@code COUNT(*) FILTER (WHERE ...)}, which jOOQ emulates with {@code CASE} on the
+     * dialects not supporting the filter clause.
+     *
+     * @return the result counts
+     */
+    public ResultCounts getTotalAndFilteredResultCounts() {
+        return JooqProvider.fetchCounts(this.getTotalAndFilteredCountsQuery());
+    }
+
+    /**
+     * Gets the single aggregate query of the total and filtered counts.
+     *
+     * @return the counts query
+     * @see #fetchCounts(ResultQuery)
+     */
+    public ResultQuery<? extends Record> getTotalAndFilteredCountsQuery() {
+        final Field<Integer> filteredCount = this.conditions.isEmpty()
+                ? DSL.count()
+                : DSL.count().filterWhere(this.conditions);
+
+        return this.initialFrom
+                .apply(this.dslContext.select(DSL.count().as("total"), filteredCount.as("filtered")))
+                .where(this.getWhereInitialCondition());
+    }
+
+    /**
+     * Fetch a query of the total and filtered counts.
+     *
+     * @param countsQuery the counts query
+     * @return the result counts
+     */
+    public static ResultCounts fetchCounts(final ResultQuery<? extends Record> countsQuery) {
+        final Record record = countsQuery.fetchOne();
+
+        if (record == null) {
+            return new ResultCounts(0L, 0L);
+        }
+
+        final Long total = record.get("total", Long.class);
+        final Long filtered = record.get("filtered", Long.class);
+
+        return new ResultCounts(total == null ? 0L : total, filtered == null ? 0L : filtered);
+    }
+
+    /**
+     * Whether search conditions have been added.
+     *
+     * @return true if the filtered rows may differ from the total rows
+     */
+    public boolean hasConditions() {
+        return !this.conditions.isEmpty();
+    }
+
+    /**
+     * Gets the identity of the counted source. It is the qualified name of the count table if set, for example
+     * {@code public.person}, otherwise the inlined sql of the initial from.
+     *
+     * @return the count source
+     */
+    public String getCountSource() {
+        if (this.countTable != null) {
+            return String.join(".", this.countTable.getQualifiedName().getName());
+        }
+
+        return this.getCountFrom();
+    }
+
+    /**
+     * Gets the inlined sql of the initial from. It tells apart the counts of providers sharing a count table with
+     * different joins.
+     *
+     * @return the count from
+     */
+    private String getCountFrom() {
+        return this.dslContext.renderInlined(this.initialFrom.apply(this.dslContext.selectOne()));
+    }
+
+    /**
+     * Gets the key of the total unfiltered result count.
+     *
+     * @param discriminator the context discriminator
+     * @return the count key
+     */
+    public CountKey getTotalCountKey(final Object discriminator) {
+        return new CountKey(this.getCountSource(), this.countTable == null ? null : this.getCountFrom(), discriminator,
+                this.normalizeConditions(this.getWhereInitialCondition()));
+    }
+
+    /**
+     * Gets the key of the total filtered result count. It is the key of the total count if no search conditions
+     * have been added.
+     *
+     * @param discriminator the context discriminator
+     * @return the count key
+     */
+    public CountKey getFilteredCountKey(final Object discriminator) {
+        return new CountKey(this.getCountSource(), this.countTable == null ? null : this.getCountFrom(), discriminator,
+                this.normalizeConditions(this.getWhereCondition()));
+    }
+
+    /**
+     * Gets the estimated total unfiltered result count from the catalog statistics of the count table.
+     *
+     * @return the estimate or null if no count table is set, an initial condition restricts the rows or the
+     * statistics are not available
+     * @see RowCountEstimator
+     */
+    public Long getEstimatedUnfilteredResultCount() {
+        if (this.countTable == null || this.initialCondition != null) {
+            return null;
+        }
+
+        return RowCountEstimator.estimate(this.dslContext, this.countTable);
+    }
+
+    /**
+     * Gets the filtered result count, counting at most the given number of rows.
+     *
+     * @param limit the maximum number of rows counted
+     * @return the total filtered result count or the limit
+     */
+    public long getBoundedFilteredResultCount(final long limit) {
+        final Table<? extends Record> bounded = this.initialFrom
+                .apply(this.dslContext.select(DSL.inline(1).as("dt_one")))
                 .where(this.getWhereCondition())
-                .fetchOne(countField);
+                .limit(limit)
+                .asTable("dt_bounded");
+        final Integer count = this.dslContext.selectCount().from(bounded).fetchOne(0, Integer.class);
+
         return count == null ? 0L : count;
     }
 
+    /**
+     * Gets the ratio of the rows matching the search conditions among the first rows of the source.
+     * <p>
+     * The sample isn't random, it is made of the first rows returned by the database without any ordering, usually
+     * in the physical or index order. The ratio is biased when the matching rows correlate with that order, e.g. a
+     * search on a recent value of a table read in insertion order. A random sample would require to read the whole
+     * source, which the estimation tries to avoid.
+     *
+     * @param sampleSize the number of rows sampled
+     * @return the ratio
+     */
+    public double getSampledFilteredRatio(final int sampleSize) {
+        final Field<Integer> match = DSL.field(DSL.name("dt_sample", "dt_match"), Integer.class);
+        final Table<? extends Record> sample = this.initialFrom
+                .apply(this.dslContext.select(DSL.when(DSL.and(this.conditions), DSL.inline(1)).otherwise(DSL.inline(0)).as("dt_match")))
+                .where(this.getWhereInitialCondition())
+                .limit(sampleSize)
+                .asTable("dt_sample");
+        final Record2<Integer, BigDecimal> record = this.dslContext.select(DSL.count(), DSL.sum(match))
+                .from(sample)
+                .fetchOne();
+
+        if (record == null || record.value1() == null || record.value1() == 0 || record.value2() == null) {
+            return 0d;
+        }
+
+        return record.value2().doubleValue() / record.value1();
+    }
+
+    /**
+     * Normalize the conditions. Each condition is inlined then sorted, the order in which the conditions have been
+     * added doesn't matter.
+     *
+     * @param conditions the conditions
+     * @return the normalized conditions
+     */
+    private String normalizeConditions(final List<Condition> conditions) {
+        return conditions.stream()
+                .map(this.dslContext::renderInlined)
+                .sorted()
+                .collect(Collectors.joining(" and "));
+    }
+
     /**
      * Gets where initial condition.
      *
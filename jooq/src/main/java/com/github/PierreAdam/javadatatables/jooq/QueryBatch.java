@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.jooq;
+
+import org.jooq.Query;
+import org.jooq.exception.DataAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+/**
+ * The queries of a single request. Without executor, the queries run immediately on the calling thread.
+ * Otherwise, they run concurrently and if one of them fails, the others are cancelled. The statements of the queries
+ * submitted with {@link #submit(Query, Function)} are cancelled on the database as well.
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+final class QueryBatch {
+
+    /**
+     * The Executor. Null if the queries run on the calling thread.
+     */
+    private final Executor executor;
+
+    /**
+     * The submitted queries.
+     */
+    private final List<Future<?>> futures;
+
+    /**
+     * The submitted jOOQ queries, cancelled on failure.
+     */
+    private final List<Query> queries;
+
+    /**
+     * Instantiates a new Query batch.
+     *
+     * @param executor the executor or null
+     */
+    QueryBatch(final Executor executor) {
+        this.executor = executor;
+        this.futures = new ArrayList<>();
+        this.queries = new ArrayList<>();
+    }
+
+    /**
+     * Submit a jOOQ query. On failure of the batch, its running statement is cancelled.
+     *
+     * @param <Q>       the query type
+     * @param <T>       the result type
+     * @param query     the query
+     * @param execution the execution of the query
+     * @return the future result
+     */
+    <Q extends Query, T> Future<T> submit(final Q query, final Function<Q, T> execution) {
+        this.queries.add(query);
+
+        return this.submit(() -> execution.apply(query));
+    }
+
+    /**
+     * Submit a query.
+     *
+     * @param <T>   the result type
+     * @param query the query
+     * @return the future result
+     */
+    <T> Future<T> submit(final Callable<T> query) {
+        final FutureTask<T> future = new FutureTask<>(query);
+
+        this.futures.add(future);
+        if (this.executor == null) {
+            future.run();
+        } else {
+            try {
+                this.executor.execute(future);
+            } catch (final RuntimeException e) {
+                this.cancelAll();
+                throw e;
+            }
+        }
+
+        return future;
+    }
+
+    /**
+     * Wait for the result of a query. On failure, the other queries are cancelled.
+     *
+     * @param <T>    the result type
+     * @param future the future result
+     * @return the result
+     */
+    <T> T get(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            this.cancelAll();
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while waiting for the queries.", e);
+        } catch (final ExecutionException e) {
+            this.cancelAll();
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new DataAccessException("Unable to execute the query.", cause);
+        }
+    }
+
+    /**
+     * Cancel all the queries still running. Interrupting the worker threads doesn't stop a running statement, the
+     * statements of the jOOQ queries are cancelled as well.
+     */
+    private void cancelAll() {
+        this.futures.forEach(future -> future.cancel(true));
+        for (final Query query : this.queries) {
+            try {
+                query.cancel();
+            } catch (final RuntimeException ignored) {
+                // The statement may already be closed or the driver may not support the cancellation.
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.jooq;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The executors used to run the queries of a request concurrently.
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public final class QueryExecutors {
+
+    /**
+     * Instantiates a new Query executors.
+     */
+    private QueryExecutors() {
+    }
+
+    /**
+     * Gets the default executor. On Java 21+, each query runs on its own virtual thread. On older runtimes, the
+     * queries run on a shared cached pool of daemon threads.
+     *
+     * @return the executor
+     */
+    public static Executor defaultExecutor() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Creates the default executor.
+     *
+     * @return the executor service
+     */
+    private static ExecutorService createDefaultExecutor() {
+        try {
+            final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+
+            return (ExecutorService) method.invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException ignore) {
+        }
+
+        final AtomicInteger counter = new AtomicInteger();
+
+        return Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "datatables-query-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Lazy holder of the default executor.
+     */
+    private static final class InstanceHolder {
+
+        /**
+         * The default executor.
+         */
+        private static final ExecutorService INSTANCE = QueryExecutors.createDefaultExecutor();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.jooq;
+
+import org.jooq.DSLContext;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+
+/**
+ * Estimate the number of rows of a table from the catalog statistics of the database.
+ * Supported on PostgreSQL ({@code pg_class.reltuples}), MySQL and MariaDB ({@code information_schema.tables.table_rows})
+ * and H2 ({@code information_schema.tables.row_count_estimate}).
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public final class RowCountEstimator {
+
+    /**
+     * Instantiates a new Row count estimator.
+     */
+    private RowCountEstimator() {
+    }
+
+    /**
+     * Estimate the number of rows of a table.
+     *
+     * @param dslContext the dsl context
+     * @param table      the table
+     * @return the estimate or null if the dialect is not supported or the statistics are not available
+     */
+    public static Long estimate(final DSLContext dslContext, final Table<?> table) {
+        final String schemaName = table.getSchema() == null ? null : table.getSchema().getName();
+        final Object estimate;
+
+        try {
+            switch (dslContext.dialect().family()) {
+                case POSTGRES:
+                    estimate = dslContext.fetchValue("select reltuples::bigint from pg_class where oid = to_regclass({0})",
+                            DSL.val(schemaName == null ? table.getName() : schemaName + "." + table.getName()));
+                    break;
+                case MYSQL:
+                case MARIADB:
+                    estimate = dslContext.fetchValue("select table_rows from information_schema.tables "
+                                    + "where table_schema = coalesce({0}, database()) and table_name = {1}",
+                            DSL.val(schemaName, String.class), DSL.val(table.getName()));
+                    break;
+                case H2:
+                    estimate = dslContext.fetchValue("select row_count_estimate from information_schema.tables "
+                                    + "where upper(table_schema) = upper(coalesce({0}, current_schema)) and upper(table_name) = upper({1})",
+                            DSL.val(schemaName, String.class), DSL.val(table.getName()));
+                    break;
+                default:
+                    return null;
+            }
+        } catch (final DataAccessException ignore) {
+            return null;
+        }
+
+        // Postgres reports -1 on tables never analyzed.
+        return estimate instanceof Number && ((Number) estimate).longValue() >= 0 ? ((Number) estimate).longValue() : null;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.jooq;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+/**
+ * Cache of the seek keys found every {@link #getInterval()} rows of a sorted query.
+ * It allows a provider using seek pagination to jump to any page by seeking the nearest boundary and skipping the
+ * few remaining rows. The boundaries are indexed by the inlined SQL of the sorted query, which holds the source,
+ * the search conditions and the order. Only the boundaries up to the requested page are loaded, and a sorted query is
+ * loaded by a single thread at a time, the others wait for its boundaries.
+ * The cache is meant to be shared by the providers of a DataTables, it is safe to use from any thread.
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public class SeekBoundaryCache {
+
+    /**
+     * The number of rows between two boundaries.
+     */
+    private final int interval;
+
+    /**
+     * The time to live of the boundaries, in milliseconds.
+     */
+    private final long timeToLive;
+
+    /**
+     * The maximum number of sorted queries kept in the cache.
+     */
+    private final int maximumSize;
+
+    /**
+     * The boundaries indexed by sorted query.
+     */
+    private final ConcurrentMap<String, Boundaries> boundaries;
+
+    /**
+     * Instantiates a new Seek boundary cache.
+     *
+     * @param interval    the number of rows between two boundaries
+     * @param timeToLive  the time to live of the boundaries
+     * @param maximumSize the maximum number of sorted queries kept in the cache
+     */
+    public SeekBoundaryCache(final int interval, final Duration timeToLive, final int maximumSize) {
+        if (interval <= 0 || maximumSize <= 0) {
+            throw new IllegalArgumentException("The interval and the maximum size must be positive.");
+        }
+
+        this.interval = interval;
+        this.timeToLive = timeToLive.toMillis();
+        this.maximumSize = maximumSize;
+        this.boundaries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the number of rows between two boundaries.
+     *
+     * @return the interval
+     */
+    public int getInterval() {
+        return this.interval;
+    }
+
+    /**
+     * Gets the boundaries of a sorted query. The element {@code i} is the key of the row at position
+     * {@code (i + 1) * interval - 1}, seeking it starts the page at the row {@code (i + 1) * interval}.
+     * A null element is a boundary which can't be sought. Fewer boundaries than requested are returned if the
+     * sorted query doesn't have enough rows.
+     * The loader is given the number of boundaries to load, at least the requested count. If the cached boundaries
+     * don't reach the requested count, the boundaries are reloaded up to twice the previous count.
+     *
+     * @param sortedQuery the inlined sql of the sorted query
+     * @param count       the number of boundaries needed
+     * @param loader      the loader used if the boundaries are missing, expired or too few
+     * @return the boundaries
+     */
+    public List<List<String>> get(final String sortedQuery, final int count, final IntFunction<List<List<String>>> loader) {
+        final long now = System.currentTimeMillis();
+        final Boundaries entry = this.boundaries.compute(sortedQuery, (key, cached) -> cached != null && cached.covers(count, now)
+                ? cached
+                : new Boundaries(cached == null ? count : Math.max(count, 2 * cached.count), now + this.timeToLive));
+
+        if (entry.loading.compareAndSet(false, true)) {
+            try {
+                entry.keys.complete(Collections.unmodifiableList(loader.apply(entry.count)));
+            } catch (final RuntimeException | Error e) {
+                this.boundaries.remove(sortedQuery, entry);
+                entry.keys.completeExceptionally(e);
+                throw e;
+            }
+            this.evict(now);
+        }
+
+        try {
+            return entry.keys.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Invalidate all the boundaries. Must be called when the underlying data changes in a way that moves the rows.
+     */
+    public void invalidateAll() {
+        this.boundaries.clear();
+    }
+
+    /**
+     * Remove the expired boundaries then the oldest ones until the cache fits its maximum size.
+     *
+     * @param now the current time
+     */
+    private void evict(final long now) {
+        if (this.boundaries.size() <= this.maximumSize) {
+            return;
+        }
+
+        this.boundaries.values().removeIf(entry -> entry.expiresAt <= now);
+        while (this.boundaries.size() > this.maximumSize) {
+            this.boundaries.entrySet()
+                    .stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+                    .map(Map.Entry::getKey)
+                    .ifPresent(this.boundaries::remove);
+        }
+    }
+
+    /**
+     * The boundaries of a sorted query, loaded by the first thread requesting them.
+     */
+    private static final class Boundaries {
+
+        /**
+         * The number of boundaries requested to the loader.
+         */
+        private final int count;
+
+        /**
+         * The keys of the boundaries, completed once loaded.
+         */
+        private final CompletableFuture<List<List<String>>> keys;
+
+        /**
+         * The expiration time.
+         */
+        private final long expiresAt;
+
+        /**
+         * Whether a thread has started loading the keys.
+         */
+        private final AtomicBoolean loading;
+
+        /**
+         * Instantiates new Boundaries.
+         *
+         * @param count     the number of boundaries requested to the loader
+         * @param expiresAt the expiration time
+         */
+        private Boundaries(final int count, final long expiresAt) {
+            this.count = count;
+            this.keys = new CompletableFuture<>();
+            this.expiresAt = expiresAt;
+            this.loading = new AtomicBoolean();
+        }
+
+        /**
+         * Whether the boundaries are still valid and hold the requested count, or all the boundaries of the sorted
+         * query.
+         *
+         * @param requested the number of boundaries needed
+         * @param now       the current time
+         * @return true if the boundaries can be used
+         */
+        private boolean covers(final int requested, final long now) {
+            if (this.expiresAt <= now || this.keys.isCompletedExceptionally()) {
+                return false;
+            }
+
+            return this.count >= requested || this.keys.isDone() && this.keys.join().size() < this.count;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.jooq.enumerations;
+
+/**
+ * How the records counts are retrieved from the database.
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public enum CountMode {
+
+    /**
+     * The page, the total count and the filtered count are retrieved with three distinct queries.
+     */
+    SEPARATE,
+
+    /**
+     * The filtered count is retrieved along with the page using {@code COUNT(*) OVER()}.
+     * A dedicated query is still used when the page is empty. The dialect must support window functions.
+     */
+    WINDOW,
+
+    /**
+     * The total count and the filtered count are retrieved with a single aggregate query using
+     * {@code COUNT(*) FILTER (WHERE ...)}, emulated with {@code CASE} on the dialects not supporting it.
+     */
+    COMBINED;
+
+    /**
+     * Default constructor.
+     */
+    CountMode() {
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.PierreAdam.javadatatables.jooq.enumerations;
+
+/**
+ * Whether the records counts are exact, cached or estimated.
+ *
+ * @author Pierre Adam
+ * @since 26.10.18
+ */
+public enum CountStrategy {
+
+    /**
+     * The counts are computed on each request.
+     */
+    EXACT,
+
+    /**
+     * The counts are computed once then reused for the same source and search conditions until they expire or
+     * are invalidated. The total count is shared by every search on the source.
+     */
+    CACHED_EXACT,
+
+    /**
+     * The total count comes from the catalog statistics and the filtered count is bounded then sampled.
+     * Both switch to exact counts below the estimate threshold.
+     */
+    ESTIMATED;
+
+    /**
+     * Default constructor.
+     */
+    CountStrategy() {
+    }
+}
@@ -26,27 +26,55 @@ package com.github.PierreAdam.javadatatables.jooq.test;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.PierreAdam.javadatatables.core.entities.Order;
 import com.github.PierreAdam.javadatatables.core.entities.Parameters;
 import com.github.PierreAdam.javadatatables.core.entities.Search;
+import com.github.PierreAdam.javadatatables.jooq.AdvancedJooqDataTables;
+import com.github.PierreAdam.javadatatables.jooq.ComputableEntity;
+import com.github.PierreAdam.javadatatables.jooq.EntityRecordMapper;
+import com.github.PierreAdam.javadatatables.jooq.JooqDataTables;
+import com.github.PierreAdam.javadatatables.jooq.JooqDataTablesContext;
+import com.github.PierreAdam.javadatatables.jooq.JooqProvider;
+import com.github.PierreAdam.javadatatables.jooq.QueryExecutors;
+import com.github.PierreAdam.javadatatables.jooq.SeekBoundaryCache;
+import com.github.PierreAdam.javadatatables.jooq.enumerations.CountMode;
+import com.github.PierreAdam.javadatatables.jooq.enumerations.CountStrategy;
 import com.github.PierreAdam.javadatatables.testdata.PersonEntity;
 import com.github.javafaker.Faker;
 import lombok.extern.slf4j.Slf4j;
+import org.h2.jdbcx.JdbcDataSource;
 import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.Record;
+import org.jooq.Result;
 import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
 import org.jooq.impl.DSL;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.beans.ConstructorProperties;
+import java.io.ByteArrayOutputStream;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 /**
  * JooqTest.
@@ -208,4 +236,710 @@ public class JooqTest {
             node.forEach(value -> Assertions.assertNotNull(value, "Expected non null value in the node."));
         });
     }
+
+    @Test
+    void datatableStreamedQuery() {
+        final Parameters parameters = ParametersHelper.createForNameEntity();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        Assertions.assertDoesNotThrow(() -> this.personDataTable.writeAjaxResult(parameters, outputStream));
+
+        final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> new ObjectMapper().readTree(outputStream.toByteArray()));
+
+        JooqTest.logger.info("ajax result : {}", ajaxResult);
+
+        Assertions.assertEquals(this.personDataTable.getAjaxResult(parameters).get("data"), ajaxResult.get("data"), "Expected the same rows as the tree result.");
+        Assertions.assertEquals(1, ajaxResult.get("draw").asInt(), "Expected the draw to be forwarded.");
+        Assertions.assertEquals(100, ajaxResult.get("recordsTotal").asInt(), "Expected 100 rows total.");
+        Assertions.assertEquals(10, ajaxResult.get("data").size(), "Expected 10 rows in the result set.");
+    }
+
+    @Test
+    void datatableCursorStreamedQuery() {
+        final JooqPersonDataTable streamingDataTable = new JooqPersonDataTable(PersonEntity.class, new ObjectMapper(), this.dslContext);
+
+        streamingDataTable.setStreamingFetchSize(7);
+
+        for (final int length : new int[]{10, -1}) {
+            final Parameters parameters = ParametersHelper.createForNameEntity()
+                    .setSearch(new Search().setValue(this.data.get(0).getFirstName().substring(0, 1)))
+                    .setLength(length);
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            Assertions.assertDoesNotThrow(() -> streamingDataTable.writeAjaxResult(parameters, outputStream));
+
+            final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> new ObjectMapper().readTree(outputStream.toByteArray()));
+            final JsonNode expected = this.personDataTable.getAjaxResult(parameters);
+
+            Assertions.assertEquals(expected.get("data"), ajaxResult.get("data"), "Expected the same rows as the tree result.");
+            Assertions.assertEquals(expected.get("seek"), ajaxResult.get("seek"), "Expected the same seek key as the tree result.");
+            Assertions.assertEquals(100, ajaxResult.get("recordsTotal").asInt(), "Expected 100 rows total.");
+            Assertions.assertEquals(expected.get("recordsFiltered").asInt(), ajaxResult.get("recordsFiltered").asInt(), "Expected the same filtered count.");
+        }
+    }
+
+    @Test
+    void datatableCountModeQuery() {
+        final PersonEntity personEntity = this.data.get(0);
+        final Parameters parameters = ParametersHelper.createForNameEntity()
+                .setSearch(new Search().setValue(personEntity.getLastName()));
+        final Parameters outOfRange = ParametersHelper.createForNameEntity().setStart(500);
+        final JsonNode expected = this.personDataTable.getAjaxResult(parameters);
+
+        for (final CountMode countMode : CountMode.values()) {
+            this.personDataTable.setCountMode(countMode);
+
+            final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> this.personDataTable.getAjaxResult(parameters));
+
+            JooqTest.logger.info("ajax result ({}) : {}", countMode, ajaxResult);
+
+            Assertions.assertEquals(100, ajaxResult.get("recordsTotal").asInt(), "Expected 100 rows total.");
+            Assertions.assertEquals(expected.get("recordsFiltered").asInt(), ajaxResult.get("recordsFiltered").asInt(), "Expected the same filtered count.");
+            Assertions.assertEquals(expected.get("data"), ajaxResult.get("data"), "Expected the same rows.");
+
+            // An empty page with the window count requires a dedicated count.
+            final JsonNode emptyResult = Assertions.assertDoesNotThrow(() -> this.personDataTable.getAjaxResult(outOfRange));
+
+            Assertions.assertEquals(100, emptyResult.get("recordsFiltered").asInt(), "Expected 100 rows total filtered.");
+            Assertions.assertTrue(emptyResult.get("data").isEmpty(), "Expected no rows in the result set.");
+        }
+    }
+
+    @Test
+    void datatableImplicitAsteriskQuery() {
+        final JooqPersonDataTable asteriskDataTable = this.customizedDataTable(jooqProvider -> jooqProvider
+                .setInitialSelect(context -> context.select()));
+        final JooqPersonDataTable seekAsteriskDataTable = this.customizedDataTable(jooqProvider -> jooqProvider
+                .setInitialSelect(context -> context.select())
+                .setSeekTieBreaker(DSL.field("uid", UUID.class)));
+        final Order order = new Order();
+        order.setColumn(1);
+        order.setDir("asc");
+        final Parameters parameters = ParametersHelper.createForNameEntity()
+                .setOrder(Collections.singletonList(order))
+                .setSearch(new Search().setValue("a"));
+
+        this.personDataTable.setOrderHandler("uid", (jooqProvider, orderEnum) -> jooqProvider.addSort(DSL.field("uid", UUID.class), orderEnum));
+        asteriskDataTable.setOrderHandler("uid", (jooqProvider, orderEnum) -> jooqProvider.addSort(DSL.field("uid", UUID.class), orderEnum));
+        seekAsteriskDataTable.setOrderHandler("uid", (jooqProvider, orderEnum) -> jooqProvider.addSort(DSL.field("uid", UUID.class), orderEnum));
+
+        final JsonNode expected = this.personDataTable.getAjaxResult(parameters).get("data");
+
+        Assertions.assertFalse(expected.isEmpty(), "Expected at least 1 rows in the result set.");
+
+        for (final JooqPersonDataTable dataTable : Arrays.asList(asteriskDataTable, seekAsteriskDataTable)) {
+            for (final CountMode countMode : CountMode.values()) {
+                dataTable.setCountMode(countMode);
+
+                final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> dataTable.getAjaxResult(parameters));
+
+                Assertions.assertEquals(expected.size(), ajaxResult.get("data").size(), "Expected the same rows.");
+                for (int i = 0; i < expected.size(); i++) {
+                    // The creation date is read as a timestamp through the asterisk, only the other columns are compared.
+                    for (int column = 1; column < expected.get(i).size(); column++) {
+                        Assertions.assertEquals(expected.get(i).get(column), ajaxResult.get("data").get(i).get(column),
+                                "Expected every column with an implicit asterisk (" + countMode + ").");
+                    }
+                }
+            }
+        }
+
+        Assertions.assertEquals(4, seekAsteriskDataTable.getAjaxResult(parameters).get("seek").size(), "Expected the next start, the fingerprint, the sorted field and the tie-breaker in the key.");
+    }
+
+    @Test
+    void datatableConcurrentQuery() {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:testdb");
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+
+        final PersonEntity personEntity = this.data.get(0);
+        final Parameters parameters = ParametersHelper.createForNameEntity()
+                .setSearch(new Search().setValue(personEntity.getLastName()));
+        final JsonNode expected = this.personDataTable.getAjaxResult(parameters);
+        final JooqPersonDataTable concurrentDataTable = new JooqPersonDataTable(PersonEntity.class, new ObjectMapper(), DSL.using(dataSource, SQLDialect.H2));
+
+        concurrentDataTable.setQueryExecutor(QueryExecutors.defaultExecutor());
+
+        for (final CountMode countMode : CountMode.values()) {
+            concurrentDataTable.setCountMode(countMode);
+
+            final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> concurrentDataTable.getAjaxResult(parameters));
+
+            JooqTest.logger.info("ajax result ({}) : {}", countMode, ajaxResult);
+
+            Assertions.assertEquals(100, ajaxResult.get("recordsTotal").asInt(), "Expected 100 rows total.");
+            Assertions.assertEquals(expected.get("recordsFiltered").asInt(), ajaxResult.get("recordsFiltered").asInt(), "Expected the same filtered count.");
+            Assertions.assertEquals(expected.get("data"), ajaxResult.get("data"), "Expected the same rows.");
+        }
+    }
+
+    @Test
+    void datatableSeekQuery() {
+        final JooqPersonDataTable seekDataTable = this.customizedDataTable(jooqProvider -> jooqProvider
+                .setSeekTieBreaker(DSL.field("uid", UUID.class)));
+        final Order order = new Order();
+        order.setColumn(4);
+        order.setDir("desc");
+
+        final Set<String> uids = new HashSet<>();
+        List<String> seek = null;
+
+        for (int start = 0; start < 100; start += 10) {
+            final Parameters offsetParameters = ParametersHelper.createForNameEntity()
+                    .setOrder(Collections.singletonList(order))
+                    .setStart(start);
+            final Parameters seekParameters = ParametersHelper.createForNameEntity()
+                    .setOrder(Collections.singletonList(order))
+                    .setStart(start)
+                    .setSeek(seek);
+
+            final JsonNode expected = this.personDataTable.getAjaxResult(offsetParameters);
+            final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> seekDataTable.getAjaxResult(seekParameters));
+
+            JooqTest.logger.info("ajax result : {}", ajaxResult);
+
+            Assertions.assertEquals(100, ajaxResult.get("recordsFiltered").asInt(), "Expected 100 rows total filtered.");
+            Assertions.assertEquals(expected.get("data"), ajaxResult.get("data"), "Expected the same rows when seeking.");
+            Assertions.assertEquals(5, ajaxResult.get("seek").size(), "Expected the next start, the fingerprint, the sorted fields and the tie-breaker in the key.");
+
+            ajaxResult.get("data").forEach(node -> uids.add(node.get(1).asText()));
+            seek = new ArrayList<>();
+            for (final JsonNode value : ajaxResult.get("seek")) {
+                seek.add(value.asText());
+            }
+        }
+
+        Assertions.assertEquals(100, uids.size(), "Expected every row to be seen exactly once.");
+    }
+
+    @Test
+    void datatableSeekMismatchQuery() {
+        final JooqPersonDataTable seekDataTable = this.customizedDataTable(jooqProvider -> jooqProvider
+                .setSeekTieBreaker(DSL.field("uid", UUID.class)));
+        final Order desc = new Order();
+        desc.setColumn(4);
+        desc.setDir("desc");
+        final Order asc = new Order();
+        asc.setColumn(4);
+        asc.setDir("asc");
+
+        final List<String> seek = new ArrayList<>();
+        seekDataTable.getAjaxResult(ParametersHelper.createForNameEntity().setOrder(Collections.singletonList(desc)))
+                .get("seek")
+                .forEach(value -> seek.add(value.asText()));
+        final List<String> badSeek = new ArrayList<>(seek);
+        badSeek.set(badSeek.size() - 1, "not a uid");
+
+        final List<Parameters> mismatches = Arrays.asList(
+                // A key of the first page sent for another page.
+                ParametersHelper.createForNameEntity().setOrder(Collections.singletonList(desc)).setStart(40).setSeek(seek),
+                // A key of another sort.
+                ParametersHelper.createForNameEntity().setOrder(Collections.singletonList(asc)).setStart(10).setSeek(seek),
+                // A key of another search.
+                ParametersHelper.createForNameEntity().setOrder(Collections.singletonList(desc)).setStart(10).setSeek(seek)
+                        .setSearch(new Search().setValue("a")),
+                // A key that can't be converted.
+                ParametersHelper.createForNameEntity().setOrder(Collections.singletonList(desc)).setStart(10).setSeek(badSeek));
+
+        for (final Parameters parameters : mismatches) {
+            final List<String> sent = parameters.getSeek();
+            final JsonNode expected = this.personDataTable.getAjaxResult(parameters.setSeek(null));
+            final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> seekDataTable.getAjaxResult(parameters.setSeek(sent)));
+
+            Assertions.assertFalse(expected.get("data").isEmpty(), "Expected at least 1 rows in the result set.");
+            Assertions.assertEquals(expected.get("data"), ajaxResult.get("data"), "Expected the offset rows when the key doesn't match.");
+        }
+    }
+
+    @Test
+    void datatableSeekBoundaryQuery() {
+        final AtomicInteger loads = new AtomicInteger();
+        final SeekBoundaryCache cache = new SeekBoundaryCache(7, Duration.ofMinutes(5), 16) {
+            @Override
+            public List<List<String>> get(final String sortedQuery, final int count, final IntFunction<List<List<String>>> loader) {
+                return super.get(sortedQuery, count, requested -> {
+                    loads.incrementAndGet();
+                    return loader.apply(requested);
+                });
+            }
+        };
+        final JooqPersonDataTable seekDataTable = this.customizedDataTable(jooqProvider -> jooqProvider
+                .setSeekTieBreaker(DSL.field("uid", UUID.class)));
+        final JooqPersonDataTable cachedDataTable = this.customizedDataTable(jooqProvider -> jooqProvider
+                .setSeekTieBreaker(DSL.field("uid", UUID.class))
+                .setSeekBoundaryCache(cache));
+        final Order order = new Order();
+        order.setColumn(3);
+        order.setDir("asc");
+
+        for (int start = 99; start >= 0; start -= 9) {
+            final Parameters parameters = ParametersHelper.createForNameEntity()
+                    .setOrder(Collections.singletonList(order))
+                    .setStart(start);
+
+            final JsonNode expected = seekDataTable.getAjaxResult(parameters);
+            final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> cachedDataTable.getAjaxResult(parameters));
+
+            Assertions.assertEquals(expected.get("data"), ajaxResult.get("data"), "Expected the same rows at " + start + ".");
+        }
+
+        Assertions.assertEquals(1, loads.get(), "Expected the boundaries of the furthest page to cover the nearer pages.");
+    }
+
+    @Test
+    void seekBoundaryCacheLoading() throws InterruptedException {
+        final SeekBoundaryCache cache = new SeekBoundaryCache(10, Duration.ofMinutes(5), 16);
+        final AtomicInteger loads = new AtomicInteger();
+        final List<Integer> requested = Collections.synchronizedList(new ArrayList<>());
+        final IntFunction<List<List<String>>> loader = count -> {
+            loads.incrementAndGet();
+            requested.add(count);
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.nCopies(Math.min(count, 5), Collections.singletonList("key"));
+        };
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> cache.get("sorted", 2, loader)));
+        }
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(1, loads.get(), "Expected the concurrent requests to wait for a single load.");
+        Assertions.assertEquals(2, cache.get("sorted", 1, loader).size(), "Expected the loaded boundaries to be reused.");
+        Assertions.assertEquals(4, cache.get("sorted", 3, loader).size(), "Expected the boundaries to be reloaded further.");
+        Assertions.assertEquals(5, cache.get("sorted", 8, loader).size(), "Expected all the boundaries of the sorted query.");
+        Assertions.assertEquals(5, cache.get("sorted", 12, loader).size(), "Expected the boundaries to be complete.");
+        Assertions.assertEquals(Arrays.asList(2, 4, 8), requested, "Expected the boundaries to be loaded up to the requested count only.");
+    }
+
+    @Test
+    void datatableCountStrategyQuery() {
+        final JooqPersonDataTable estimatedDataTable = this.customizedDataTable(jooqProvider -> jooqProvider.setCountTable(DSL.table("person")));
+        final JooqPersonDataTable cachedDataTable = this.customizedDataTable(jooqProvider -> jooqProvider.setCountTable(DSL.table("person")));
+        final PersonEntity personEntity = this.data.get(0);
+        final Parameters parameters = ParametersHelper.createForNameEntity()
+                .setSearch(new Search().setValue(personEntity.getLastName()));
+        final JsonNode expected = this.personDataTable.getAjaxResult(parameters);
+
+        // Above the threshold, the filtered count is exact as long as it stays below the threshold.
+        estimatedDataTable.setCountStrategy(CountStrategy.ESTIMATED).setEstimateThreshold(50);
+        final JsonNode estimated = Assertions.assertDoesNotThrow(() -> estimatedDataTable.getAjaxResult(parameters));
+
+        JooqTest.logger.info("ajax result : {}", estimated);
+
+        Assertions.assertTrue(estimated.get("recordsTotal").asInt() > 0, "Expected an estimated total.");
+        Assertions.assertEquals(expected.get("recordsFiltered").asInt(), estimated.get("recordsFiltered").asInt(), "Expected the exact filtered count.");
+        Assertions.assertEquals(expected.get("data"), estimated.get("data"), "Expected the same rows.");
+
+        // Without search, the filtered count is the estimated total.
+        final JsonNode unfiltered = Assertions.assertDoesNotThrow(() -> estimatedDataTable.getAjaxResult(ParametersHelper.createForNameEntity()));
+
+        Assertions.assertEquals(unfiltered.get("recordsTotal").asInt(), unfiltered.get("recordsFiltered").asInt(), "Expected the estimated total.");
+
+        // The cached counts are reused until they expire.
+        cachedDataTable.setCountStrategy(CountStrategy.CACHED_EXACT);
+        Assertions.assertEquals(expected.get("recordsFiltered").asInt(), cachedDataTable.getAjaxResult(parameters).get("recordsFiltered").asInt(), "Expected the exact filtered count.");
+        this.dslContext.deleteFrom(DSL.table("person")).where(DSL.field("uid").eq(personEntity.getUid())).execute();
+        Assertions.assertEquals(100, cachedDataTable.getAjaxResult(parameters).get("recordsTotal").asInt(), "Expected the cached total.");
+
+        cachedDataTable.getCountCache().invalidate("person");
+        Assertions.assertEquals(99, cachedDataTable.getAjaxResult(parameters).get("recordsTotal").asInt(), "Expected the total to be counted again.");
+    }
+
+    @Test
+    void datatableSkippedCountQuery() {
+        final AtomicInteger statements = new AtomicInteger();
+        final DSLContext countingContext = DSL.using(new DefaultConfiguration()
+                .set(this.connection)
+                .set(SQLDialect.H2)
+                .set(new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+                    @Override
+                    public void executeStart(final ExecuteContext ctx) {
+                        statements.incrementAndGet();
+                    }
+                })));
+        final JooqPersonDataTable countingDataTable = new JooqPersonDataTable(PersonEntity.class, new ObjectMapper(), countingContext);
+        final Parameters searchParameters = ParametersHelper.createForNameEntity()
+                .setSearch(new Search().setValue(this.data.get(0).getLastName()));
+
+        // Without search, the filtered count is the total count.
+        final JsonNode ajaxResult = countingDataTable.getAjaxResult(ParametersHelper.createForNameEntity());
+        Assertions.assertEquals(100, ajaxResult.get("recordsFiltered").asInt(), "Expected 100 rows total filtered.");
+        Assertions.assertEquals(2, statements.getAndSet(0), "Expected the page and a single count.");
+
+        countingDataTable.getAjaxResult(searchParameters);
+        Assertions.assertEquals(3, statements.getAndSet(0), "Expected the page and both counts.");
+
+        // With the window count and without search, the window count is the total count.
+        countingDataTable.setCountMode(CountMode.WINDOW);
+        final JsonNode windowResult = countingDataTable.getAjaxResult(ParametersHelper.createForNameEntity());
+        Assertions.assertEquals(100, windowResult.get("recordsTotal").asInt(), "Expected 100 rows total.");
+        Assertions.assertEquals(1, statements.getAndSet(0), "Expected the page only.");
+    }
+
+    @Test
+    void datatableBatchComputation() {
+        final List<Integer> batchSizes = new ArrayList<>();
+        final JooqPersonDataTable computedDataTable = new JooqPersonDataTable(PersonEntity.class, new ObjectMapper(), this.dslContext);
+        final Parameters parameters = ParametersHelper.createForNameEntity().setLength(-1);
+
+        computedDataTable.setBatchComputation((entities, context) -> batchSizes.add(entities.size()));
+
+        final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> computedDataTable.getAjaxResult(parameters));
+
+        Assertions.assertEquals(100, ajaxResult.get("data").size(), "Expected 100 rows in the result set.");
+        Assertions.assertEquals(Collections.singletonList(100), batchSizes, "Expected the page to be computed at once.");
+
+        batchSizes.clear();
+        computedDataTable.setStreamingFetchSize(40);
+        Assertions.assertDoesNotThrow(() -> computedDataTable.writeAjaxResult(parameters, new ByteArrayOutputStream()));
+        Assertions.assertEquals(Collections.singletonList(100), batchSizes, "Expected the streamed page to be computed by chunks of at least 100 entities.");
+    }
+
+    @Test
+    void datatableRequestedColumnsComputation() {
+        final JooqDataTables<InitialsPersonEntity> computedDataTable = new JooqDataTables<>(InitialsPersonEntity.class, new ObjectMapper(), this.dslContext);
+        final Parameters parameters = ParametersHelper.createForNameEntity();
+
+        computedDataTable.setInitProviderConsumer(jooqProvider -> jooqProvider
+                .setInitialSelect(context -> context.select(DSL.field("firstName", String.class), DSL.field("lastName", String.class)))
+                .setInitialFrom(query -> query.from(DSL.table("person"))));
+
+        InitialsPersonEntity.COMPUTED.set(0);
+        Assertions.assertDoesNotThrow(() -> computedDataTable.getAjaxResult(parameters));
+        Assertions.assertEquals(0, InitialsPersonEntity.COMPUTED.get(), "Expected the entities not to be computed without the initials column.");
+
+        new ParametersHelper.ColumnFactory(parameters.getColumns()).addColumn("initials");
+
+        final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> computedDataTable.getAjaxResult(parameters));
+
+        Assertions.assertEquals(10, InitialsPersonEntity.COMPUTED.get(), "Expected the entities to be computed with the initials column.");
+        ajaxResult.get("data").forEach(node -> Assertions.assertEquals(2, node.get(8).asText().length(), "Expected the initials to be computed."));
+
+        // A context shared by the requests is left untouched and the batch computation only gets the requested entities.
+        final JooqDataTablesContext sharedContext = new JooqDataTablesContext(this.dslContext);
+        final List<Integer> batchSizes = new ArrayList<>();
+        final AdvancedJooqDataTables<InitialsPersonEntity, JooqDataTablesContext> batchDataTable =
+                new AdvancedJooqDataTables<>(InitialsPersonEntity.class, new ObjectMapper(), this.dslContext);
+
+        batchDataTable.setInitProviderConsumer(jooqProvider -> jooqProvider
+                .setInitialSelect(context -> context.select(DSL.field("firstName", String.class), DSL.field("lastName", String.class)))
+                .setInitialFrom(query -> query.from(DSL.table("person"))));
+        batchDataTable.setBatchComputation((entities, context) -> {
+            Assertions.assertTrue(context.isRequested("initials"), "Expected the requested columns on the context of the request.");
+            batchSizes.add(entities.size());
+        });
+
+        Assertions.assertDoesNotThrow(() -> batchDataTable.getAjaxResult(ParametersHelper.createForNameEntity(), sharedContext));
+        Assertions.assertTrue(batchSizes.isEmpty(), "Expected the batch computation not to be called without the initials column.");
+        Assertions.assertDoesNotThrow(() -> batchDataTable.getAjaxResult(parameters, sharedContext));
+        Assertions.assertEquals(Collections.singletonList(10), batchSizes, "Expected the batch computation to get the page.");
+        Assertions.assertNull(sharedContext.getRequestedColumns(), "Expected the shared context to be left untouched.");
+    }
+
+    @Test
+    void datatableProjectedQuery() {
+        final List<String> statements = new ArrayList<>();
+        final DSLContext recordingContext = DSL.using(new DefaultConfiguration()
+                .set(this.connection)
+                .set(SQLDialect.H2)
+                .set(new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+                    @Override
+                    public void executeStart(final ExecuteContext ctx) {
+                        statements.add(ctx.sql());
+                    }
+                })));
+        final JooqDataTables<PersonEntity> projectedDataTable = new JooqDataTables<>(PersonEntity.class, new ObjectMapper(), recordingContext);
+
+        projectedDataTable.setInitProviderConsumer(jooqProvider -> jooqProvider
+                        .setInitialSelect(context -> context.select(DSL.field("uid", UUID.class)))
+                        .setInitialFrom(query -> query.from(DSL.table("person")))
+                        .setSeekTieBreaker(DSL.field("uid", UUID.class)))
+                .field("fullName", field -> field
+                        .setDisplaySupplier((entity, context) -> String.format("%s %s", entity.getFirstName(), entity.getLastName()))
+                        .setDependencies("firstName", "lastName"));
+        projectedDataTable.setColumnField("createdAt", DSL.field("createdAt", OffsetDateTime.class))
+                .setColumnField("firstName", DSL.field("firstName", String.class))
+                .setColumnField("lastName", DSL.field("lastName", String.class))
+                .setColumnField("title", DSL.field("title", String.class))
+                .setColumnField("bloodGroup", DSL.field("bloodGroup", String.class))
+                .setColumnField("active", DSL.field("active", Boolean.class));
+
+        final Order order = new Order();
+        order.setColumn(1);
+        order.setDir("asc");
+        this.personDataTable.setOrderHandler("uid", (jooqProvider, orderEnum) -> jooqProvider.addSort(DSL.field("uid", UUID.class), orderEnum));
+        projectedDataTable.setOrderHandler("uid", (jooqProvider, orderEnum) -> jooqProvider.addSort(DSL.field("uid", UUID.class), orderEnum));
+
+        final Parameters parameters = ParametersHelper.createForNameEntity()
+                .setOrder(Collections.singletonList(order));
+        final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> projectedDataTable.getAjaxResult(parameters));
+
+        Assertions.assertEquals(this.personDataTable.getAjaxResult(parameters).get("data"), ajaxResult.get("data"), "Expected the same rows with all the columns.");
+
+        final Parameters narrowParameters = new Parameters().setDraw(1).setStart(0).setLength(10)
+                .setColumns(new ParametersHelper.ColumnFactory().addColumn("uid").addColumn("fullName").getColumns());
+        statements.clear();
+
+        final JsonNode narrowResult = Assertions.assertDoesNotThrow(() -> projectedDataTable.getAjaxResult(narrowParameters));
+        final String pageStatement = statements.stream().filter(sql -> sql.contains("limit")).findFirst().orElse("");
+
+        Assertions.assertEquals(10, narrowResult.get("data").size(), "Expected 10 rows in the result set.");
+        narrowResult.get("data").forEach(node -> Assertions.assertFalse(node.get(1).asText().contains("null"), "Expected the dependencies to be selected."));
+        Assertions.assertTrue(pageStatement.contains("lastName"), "Expected the dependencies of the full name to be selected.");
+        Assertions.assertFalse(pageStatement.contains("bloodGroup"), "Expected the columns not requested not to be selected.");
+
+        final JooqProvider jooqProvider = new JooqProvider(this.dslContext)
+                .setInitialSelect(context -> context.select())
+                .setInitialFrom(query -> query.from(DSL.table("person")))
+                .addProjection(DSL.field("firstName", String.class).as("projectedFirstName"));
+        final Record record = jooqProvider.getResult().get(0);
+
+        // The unquoted columns of the asterisk are read in upper case from the result set.
+        Assertions.assertEquals(8, record.size(), "Expected the implicit asterisk to be kept.");
+        Assertions.assertEquals(record.get("FIRSTNAME"), record.get("projectedFirstName"), "Expected the projection to be selected.");
+    }
+
+    @Test
+    void datatableDeferredJoinQuery() {
+        final JooqDataTables<PersonEntity> deferredDataTable = new JooqDataTables<>(PersonEntity.class, new ObjectMapper(), this.dslContext);
+        final Order order = new Order();
+        order.setColumn(1);
+        order.setDir("desc");
+
+        deferredDataTable.setInitProviderConsumer(jooqProvider -> jooqProvider
+                .setInitialSelect(context -> context.select(
+                        DSL.field("createdAt", OffsetDateTime.class),
+                        DSL.field("uid", UUID.class),
+                        DSL.field("firstName", String.class),
+                        DSL.field("lastName", String.class),
+                        DSL.field("title", String.class),
+                        DSL.field("bloodGroup", String.class),
+                        DSL.field("active", Boolean.class)))
+                .setInitialFrom(query -> query.from(DSL.table("person")))
+                .setDeferredJoinKey(DSL.field("uid", UUID.class)))
+                .field("fullName", field -> field
+                        .setDisplaySupplier((entity, context) -> String.format("%s %s", entity.getFirstName(), entity.getLastName())));
+        this.personDataTable.setOrderHandler("uid", (jooqProvider, orderEnum) -> jooqProvider.addSort(DSL.field("uid", UUID.class), orderEnum));
+        deferredDataTable.setOrderHandler("uid", (jooqProvider, orderEnum) -> jooqProvider.addSort(DSL.field("uid", UUID.class), orderEnum));
+
+        for (final int start : new int[]{0, 30, 95}) {
+            final Parameters parameters = ParametersHelper.createForNameEntity()
+                    .setOrder(Collections.singletonList(order))
+                    .setStart(start);
+            final JsonNode expected = this.personDataTable.getAjaxResult(parameters);
+            final JsonNode ajaxResult = Assertions.assertDoesNotThrow(() -> deferredDataTable.getAjaxResult(parameters));
+
+            Assertions.assertEquals(expected.get("data"), ajaxResult.get("data"), "Expected the same rows in the same order.");
+            Assertions.assertEquals(100, ajaxResult.get("recordsFiltered").asInt(), "Expected 100 rows total filtered.");
+        }
+
+        final JooqProvider jooqProvider = new JooqProvider(this.dslContext)
+                .setInitialSelect(context -> context.select(DSL.field("uid", UUID.class)))
+                .setInitialFrom(query -> query.from(DSL.table("person")))
+                .setDeferredJoinKey(DSL.field("uid", UUID.class))
+                .setStartElement(30);
+
+        Assertions.assertTrue(jooqProvider.isDeferredJoin(), "Expected the deferred join to be used.");
+        Assertions.assertTrue(jooqProvider.getAsForgedQuery().getSQL().contains("dt_keys"), "Expected the keys to be selected first.");
+        Assertions.assertEquals(10, jooqProvider.getResult().size(), "Expected 10 rows in the page.");
+    }
+
+    @Test
+    void entityRecordMapper() {
+        final Result<? extends Record> records = this.dslContext.select(DSL.field("createdAt", OffsetDateTime.class), DSL.field("uid"), DSL.field("firstName").as("first_name"),
+                        DSL.field("lastName").as("last_name"), DSL.field("title"), DSL.field("bloodGroup"), DSL.field("active"),
+                        DSL.field("uid").as("dt_seek_0"))
+                .from(DSL.table("person"))
+                .orderBy(DSL.field("uid"))
+                .fetch();
+        final List<PersonEntity> expected = records.into(PersonEntity.class);
+        final List<PersonEntity> entities = records.map(EntityRecordMapper.of(PersonEntity.class, records.fields()));
+        final List<PersonName> names = records.map(EntityRecordMapper.of(PersonName.class, records.fields()));
+
+        Assertions.assertSame(EntityRecordMapper.of(PersonEntity.class, records.fields()), EntityRecordMapper.of(PersonEntity.class, records.fields()),
+                "Expected the mapper to be cached.");
+        Assertions.assertEquals(expected.size(), entities.size(), "Expected all the records to be mapped.");
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i).getUid(), entities.get(i).getUid(), "Expected the same uid.");
+            Assertions.assertEquals(expected.get(i).getCreatedAt(), entities.get(i).getCreatedAt(), "Expected the same creation date.");
+            Assertions.assertEquals(expected.get(i).getTitle(), entities.get(i).getTitle(), "Expected the same title.");
+            Assertions.assertEquals(expected.get(i).getBloodGroup(), entities.get(i).getBloodGroup(), "Expected the same blood group.");
+            Assertions.assertEquals(expected.get(i).getActive(), entities.get(i).getActive(), "Expected the same active flag.");
+            Assertions.assertEquals(records.get(i).get("first_name"), entities.get(i).getFirstName(), "Expected the snake case column to be mapped.");
+            Assertions.assertEquals(records.get(i).get("last_name"), names.get(i).getLastName(), "Expected the constructor to be bound.");
+            Assertions.assertEquals(records.get(i).get("first_name"), names.get(i).getFirstName(), "Expected the constructor to be bound.");
+        }
+    }
+
+    @Test
+    void entityRecordMapperNullPrimitive() {
+        final Result<? extends Record> records = this.dslContext.select(DSL.field("uid", UUID.class), DSL.inline(null, Integer.class).as("score"))
+                .from(DSL.table("person"))
+                .fetch();
+        final List<ScoredPerson> entities = Assertions.assertDoesNotThrow(() -> records.map(EntityRecordMapper.of(ScoredPerson.class, records.fields())));
+
+        Assertions.assertEquals(100, entities.size(), "Expected all the records to be mapped.");
+        entities.forEach(entity -> {
+            Assertions.assertNotNull(entity.getUid(), "Expected the uid to be mapped.");
+            Assertions.assertEquals(-1, entity.getScore(), "Expected the primitive property to keep its default value.");
+        });
+    }
+
+    /**
+     * Create a person data table whose providers are customized after their initialization.
+     *
+     * @param customizer the provider customizer
+     * @return the data table
+     */
+    private JooqPersonDataTable customizedDataTable(final Consumer<JooqProvider> customizer) {
+        return new JooqPersonDataTable(PersonEntity.class, new ObjectMapper(), this.dslContext) {
+            {
+                this.setInitProviderConsumer(this.initProviderConsumer.andThen(customizer));
+            }
+        };
+    }
+
+    /**
+     * A person entity computing the initials of the person.
+     */
+    public static class InitialsPersonEntity extends PersonEntity implements ComputableEntity {
+
+        /**
+         * The number of computed entities.
+         */
+        private static final AtomicInteger COMPUTED = new AtomicInteger();
+
+        /**
+         * The Initials.
+         */
+        private String initials;
+
+        @Override
+        public void compute(final JooqDataTablesContext context) {
+            InitialsPersonEntity.COMPUTED.incrementAndGet();
+            this.initials = this.getFirstName().substring(0, 1) + this.getLastName().substring(0, 1);
+        }
+
+        @Override
+        public Set<String> computedColumns() {
+            return Collections.singleton("initials");
+        }
+
+        /**
+         * Gets the initials.
+         *
+         * @return the initials
+         */
+        public String getInitials() {
+            return this.initials;
+        }
+    }
+
+    /**
+     * An entity with a primitive property.
+     */
+    public static class ScoredPerson {
+
+        /**
+         * The Uid.
+         */
+        private UUID uid;
+
+        /**
+         * The Score.
+         */
+        private int score = -1;
+
+        /**
+         * Gets the uid.
+         *
+         * @return the uid
+         */
+        public UUID getUid() {
+            return this.uid;
+        }
+
+        /**
+         * Sets the uid.
+         *
+         * @param uid the uid
+         */
+        public void setUid(final UUID uid) {
+            this.uid = uid;
+        }
+
+        /**
+         * Gets the score.
+         *
+         * @return the score
+         */
+        public int getScore() {
+            return this.score;
+        }
+
+        /**
+         * Sets the score.
+         *
+         * @param score the score
+         */
+        public void setScore(final int score) {
+            this.score = score;
+        }
+    }
+
+    /**
+     * An immutable entity bound through its constructor.
+     */
+    public static final class PersonName {
+
+        /**
+         * The First name.
+         */
+        private final String firstName;
+
+        /**
+         * The Last name.
+         */
+        private final String lastName;
+
+        /**
+         * Instantiates a new Person name.
+         *
+         * @param firstName the first name
+         * @param lastName  the last name
+         */
+        @ConstructorProperties({"firstName", "lastName"})
+        public PersonName(final String firstName, final String lastName) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        /**
+         * Gets the first name.
+         *
+         * @return the first name
+         */
+        public String getFirstName() {
+            return this.firstName;
+        }
+
+        /**
+         * Gets the last name.
+         *
+         * @return the last name
+         */
+        public String getLastName() {
+            return this.lastName;
+        }
+    }
 }
@@ -24,7 +24,6 @@
 
 package com.github.PierreAdam.javadatatables.sample;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.PierreAdam.javadatatables.core.entities.AjaxQueryForm;
 import io.undertow.Handlers;
@@ -33,7 +32,9 @@ import io.undertow.server.HttpServerExchange;
 import io.undertow.util.Headers;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
 
@@ -85,6 +86,8 @@ public class MainClass {
 
         this.objectMapper = new ObjectMapper();
         this.jooqPersonDataTable = new JooqPersonDataTable(this.objectMapper, this.jooqContext.getDslContext());
+        // The data table is shared by the request threads.
+        this.jooqPersonDataTable.freeze();
 
         System.out.println("Web server is running on http://localhost:8080");
     }
@@ -158,9 +161,10 @@ public class MainClass {
             try {
                 final ObjectMapper objectMapper = new ObjectMapper();
                 final AjaxQueryForm ajaxQueryForm = objectMapper.readValue(requestBody, AjaxQueryForm.class);
-                final JsonNode ajaxResult = this.jooqPersonDataTable.getAjaxResult(ajaxQueryForm.getParameters());
-                MainClass.logger.info("Ajax result as string: {}", ajaxResult.toString());
-                exchangeObj.getResponseSender().send(ajaxResult.toString());
+                final ByteArrayOutputStream ajaxResult = new ByteArrayOutputStream();
+                this.jooqPersonDataTable.writeAjaxResult(ajaxQueryForm.getParameters(), ajaxResult);
+                MainClass.logger.info("Ajax result written: {} bytes", ajaxResult.size());
+                exchangeObj.getResponseSender().send(ByteBuffer.wrap(ajaxResult.toByteArray()));
             } catch (final Exception e) {
                 MainClass.logger.error("Failed to parse requestBody into AjaxQueryForm", e);
                 exchangeObj.setStatusCode(400);
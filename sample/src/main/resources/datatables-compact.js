@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pierre Adam
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * Decode a compact answer of the DataTables. The values of the encoded columns are replaced in the rows by their code,
+ * the index of the value in the dictionary of the column, and the dictionaries are sent once under the "dictionaries"
+ * key by column index.
+ *
+ * It is meant to be used as the "dataSrc" of the ajax option of the table:
+ *
+ *     ajax: {url: '/data', dataSrc: decodeCompactAnswer}
+ *
+ * @param json the answer of the server
+ * @returns {Array} the decoded rows
+ */
+function decodeCompactAnswer(json) {
+    const dictionaries = json.dictionaries;
+
+    if (!dictionaries) {
+        return json.data;
+    }
+
+    const columns = Object.keys(dictionaries).map(Number);
+
+    json.data.forEach(function (row) {
+        columns.forEach(function (column) {
+            const code = row[column];
+
+            // The null values aren't encoded.
+            if (code !== null && code !== undefined) {
+                row[column] = dictionaries[column][code];
+            }
+        });
+    });
+    delete json.dictionaries;
+
+    return json.data;
+}